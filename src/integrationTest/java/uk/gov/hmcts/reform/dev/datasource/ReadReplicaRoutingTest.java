@@ -0,0 +1,100 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.models.CaseSummary;
+import uk.gov.hmcts.reform.dev.service.CaseService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the application against two separate H2 databases. The "replica" is never written by
+ * the application, so whichever database a read came from shows in what it returns.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.jdbc-url=jdbc:h2:mem:routingprimary;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+    "cases.datasource.replica.enabled=true",
+    "cases.datasource.replica.jdbc-url=jdbc:h2:mem:routingreplica;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+    "spring.cache.type=none",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.format_sql=false"
+})
+class ReadReplicaRoutingTest {
+
+    @Autowired
+    private CaseService caseService;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("""
+                CREATE TABLE IF NOT EXISTS cases (
+                    id INTEGER PRIMARY KEY,
+                    case_number VARCHAR(50) NOT NULL UNIQUE,
+                    title VARCHAR(255) NOT NULL,
+                    description CLOB,
+                    status VARCHAR(50) NOT NULL,
+                    due_date TIMESTAMP NOT NULL,
+                    created_date TIMESTAMP NOT NULL,
+                    updated_date TIMESTAMP,
+                    version BIGINT DEFAULT 0 NOT NULL
+                )""");
+        replica.update("DELETE FROM cases");
+        replica.update("INSERT INTO cases (id, case_number, title, status, due_date, created_date, version) "
+                               + "VALUES (1, 'REPLICA1', 'Replica only case', 'OPEN', ?, ?, 0)",
+                       LocalDateTime.now().plusDays(7), LocalDateTime.now());
+    }
+
+    @Test
+    void readOnlyListing_IsServedByReplica() {
+        List<CaseSummary> cases = caseService.fetchCaseList(0, 100).getBody().getContent();
+
+        assertThat(cases).extracting(CaseSummary::caseNumber).containsExactly("REPLICA1");
+    }
+
+    @Test
+    void writesAndReadWriteReads_GoToPrimary() {
+        Case created = caseService.createCase(newCase("ROUTED1"));
+
+        assertThat(caseService.getCaseById(String.valueOf(created.getId())).getCaseNumber()).isEqualTo("ROUTED1");
+        assertThat(replica.queryForObject("SELECT COUNT(*) FROM cases WHERE case_number = 'ROUTED1'",
+                                          Integer.class)).isZero();
+    }
+
+    @Test
+    void pinnedReadOnlyListing_IsServedByPrimary() {
+        caseService.createCase(newCase("ROUTED2"));
+
+        List<CaseSummary> cases;
+        try (PrimaryPin.Scope ignored = PrimaryPin.enter()) {
+            cases = caseService.fetchCaseListAfter(null, 100, null).getBody().getContent();
+        }
+
+        assertThat(cases).extracting(CaseSummary::caseNumber).contains("ROUTED2").doesNotContain("REPLICA1");
+    }
+
+    private static Case newCase(String caseNumber) {
+        return Case.builder()
+                .caseNumber(caseNumber)
+                .title("Routing test case")
+                .status(CaseStatus.OPEN)
+                .dueDate(LocalDateTime.now().plusDays(7))
+                .build();
+    }
+}
@@ -0,0 +1,173 @@
+package uk.gov.hmcts.reform.dev.load;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import uk.gov.hmcts.reform.dev.Application;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.service.CaseBulkService;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the same closed-loop read load at the application with platform threads and then
+ * with virtual threads (plus the connection-pool bulkhead), and logs throughput and tail
+ * latency for each. Only runs with -DloadTest=true; tune with loadTest.clients,
+ * loadTest.seconds and loadTest.rows.
+ */
+@EnabledIfSystemProperty(named = "loadTest", matches = "true")
+class ExecutionModeLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("loadTest.clients", 1000);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadTest.seconds", 20));
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final int ROWS = Integer.getInteger("loadTest.rows", 10_000);
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionModeLoadTest.class);
+
+    private static final String[] PATHS = {
+        "/cases?page=%d&size=20",
+        "/cases/status/OPEN?page=%d&size=20",
+        "/cases/search?q=load&page=%d&size=20"
+    };
+
+    record LoadResult(String mode, long requests, long errors, long p50Micros, long p99Micros,
+                      double requestsPerSecond) {
+
+        @Override
+        public String toString() {
+            return String.format("%-8s %10.0f req/s  p50 %7.2f ms  p99 %8.2f ms  errors %d of %d",
+                                 mode, requestsPerSecond, p50Micros / 1000.0, p99Micros / 1000.0, errors, requests);
+        }
+    }
+
+    @Test
+    void compareThroughputAndTailLatency() throws Exception {
+        LoadResult platform = run("platform", false);
+        LoadResult virtual = run("virtual", true);
+
+        log.info("clients={} duration={} rows={}", CLIENTS, DURATION, ROWS);
+        log.info("{}", platform);
+        log.info("{}", virtual);
+
+        assertThat(platform.requests()).isPositive();
+        assertThat(virtual.requests()).isPositive();
+    }
+
+    private LoadResult run(String mode, boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class).run(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--cases.bulkhead.enabled=" + virtualThreads,
+                "--spring.datasource.jdbc-url=jdbc:h2:mem:load" + mode + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--logging.level.root=WARN")) {
+            seed(context.getBean(CaseBulkService.class));
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            drive("http://localhost:" + port, WARMUP);
+            long started = System.nanoTime();
+            List<long[]> perClient = drive("http://localhost:" + port, DURATION);
+            double seconds = (System.nanoTime() - started) / 1e9;
+
+            long errors = perClient.stream().mapToLong(latencies -> latencies[0]).sum();
+            long[] latencies = perClient.stream()
+                    .flatMapToLong(client -> Arrays.stream(client, 1, client.length))
+                    .sorted()
+                    .toArray();
+            return new LoadResult(mode, latencies.length, errors, percentile(latencies, 0.50),
+                                  percentile(latencies, 0.99), latencies.length / seconds);
+        }
+    }
+
+    // Each client sends its next request as soon as the previous one completes; element 0 of the
+    // returned array is that client's error count, the rest are its latencies in microseconds
+    private static List<long[]> drive(String baseUrl, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder().executor(clients).build()) {
+            List<Future<long[]>> futures = new ArrayList<>(CLIENTS);
+            for (int i = 0; i < CLIENTS; i++) {
+                futures.add(clients.submit(() -> {
+                    List<Long> latencies = new ArrayList<>();
+                    long errors = 0;
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        String path = String.format(PATHS[random.nextInt(PATHS.length)], random.nextInt(ROWS / 20));
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                                .timeout(Duration.ofSeconds(30))
+                                .build();
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors++;
+                            }
+                        } catch (Exception e) {
+                            errors++;
+                        }
+                        latencies.add((System.nanoTime() - start) / 1000);
+                    }
+                    long[] result = new long[latencies.size() + 1];
+                    result[0] = errors;
+                    for (int j = 0; j < latencies.size(); j++) {
+                        result[j + 1] = latencies.get(j);
+                    }
+                    return result;
+                }));
+            }
+            List<long[]> results = new ArrayList<>(CLIENTS);
+            for (Future<long[]> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(fraction * sorted.length) - 1)];
+    }
+
+    private static void seed(CaseBulkService caseBulkService) {
+        List<Case> batch = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            batch.add(Case.builder()
+                    .caseNumber("LOAD" + i)
+                    .title("Load test case " + i)
+                    .description("Seeded for the execution mode load test")
+                    .status(CaseStatus.values()[i % CaseStatus.values().length])
+                    .dueDate(LocalDateTime.now().plusDays(30))
+                    .build());
+            if (batch.size() == 1000) {
+                caseBulkService.createCases(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            caseBulkService.createCases(batch);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.config.HibernateCacheConfig;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Repository calls against the second-level and query cache regions: repeated reads are
+ * answered from the caches, and writes through Hibernate or {@link CaseJdbcWriter} invalidate
+ * what they change.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.jdbc-url=jdbc:h2:mem:repositorycache;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.format_sql=false"
+})
+class CaseRepositoryCacheTest {
+
+    @Autowired
+    private CaseRepository caseRepository;
+
+    @Autowired
+    private CaseJdbcWriter caseJdbcWriter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findById_IsServedFromSecondLevelCacheUntilTheCaseChanges() {
+        Case saved = caseRepository.save(newCase("L2CACHE1"));
+
+        caseRepository.findById(saved.getId()).orElseThrow();
+        caseRepository.findById(saved.getId()).orElseThrow();
+        assertThat(statistics.getDomainDataRegionStatistics(HibernateCacheConfig.CASE_REGION).getHitCount())
+                .isGreaterThanOrEqualTo(2);
+
+        Case loaded = caseRepository.findById(saved.getId()).orElseThrow();
+        loaded.setTitle("Renamed cached case");
+        caseRepository.save(loaded);
+
+        assertThat(caseRepository.findById(saved.getId()).orElseThrow().getTitle())
+                .isEqualTo("Renamed cached case");
+    }
+
+    @Test
+    void statusQueries_AreCachedAndInvalidatedByWrites() {
+        long before = caseRepository.countByStatus(CaseStatus.CANCELLED);
+        assertThat(caseRepository.countByStatus(CaseStatus.CANCELLED)).isEqualTo(before);
+        caseRepository.findByStatus(CaseStatus.CANCELLED, PageRequest.of(0, 10, Sort.by("id")));
+        caseRepository.findByStatus(CaseStatus.CANCELLED, PageRequest.of(0, 10, Sort.by("id")));
+
+        assertThat(statistics.getQueryRegionStatistics(HibernateCacheConfig.STATUS_QUERY_REGION).getHitCount())
+                .isGreaterThanOrEqualTo(2);
+
+        Case cancelled = newCase("L2CACHE2");
+        cancelled.setStatus(CaseStatus.CANCELLED);
+        caseRepository.save(cancelled);
+
+        assertThat(caseRepository.countByStatus(CaseStatus.CANCELLED)).isEqualTo(before + 1);
+        assertThat(caseRepository.findByStatus(CaseStatus.CANCELLED, PageRequest.of(0, 100, Sort.by("id")))
+                           .getContent())
+                .anyMatch(summary -> summary.caseNumber().equals("L2CACHE2"));
+    }
+
+    @Test
+    void setBasedWrites_EvictOnlyTheCasesTheyTouch() {
+        Case touched = caseRepository.save(newCase("L2CACHE3"));
+        Case other = caseRepository.save(newCase("L2CACHE4"));
+        caseRepository.findById(touched.getId()).orElseThrow();
+        caseRepository.findById(other.getId()).orElseThrow();
+        long cancelled = caseRepository.countByStatus(CaseStatus.CANCELLED);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> caseJdbcWriter
+                .updateStatusByIdIn(List.of(touched.getId()), CaseStatus.CANCELLED, LocalDateTime.now()));
+
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        assertThat(cache.containsEntity(Case.class, touched.getId())).isFalse();
+        assertThat(cache.containsEntity(Case.class, other.getId())).isTrue();
+        assertThat(caseRepository.findById(touched.getId()).orElseThrow().getStatus())
+                .isEqualTo(CaseStatus.CANCELLED);
+        assertThat(caseRepository.countByStatus(CaseStatus.CANCELLED)).isEqualTo(cancelled + 1);
+    }
+
+    private static Case newCase(String caseNumber) {
+        return Case.builder()
+                .caseNumber(caseNumber)
+                .title("Cached case " + caseNumber)
+                .status(CaseStatus.OPEN)
+                .dueDate(LocalDateTime.now().plusDays(7))
+                .build();
+    }
+}
@@ -0,0 +1,138 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import uk.gov.hmcts.reform.dev.exception.CaseVersionConflictException;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hammers one case with conditional PATCHes from several threads. Each thread reads the
+ * counter held in the description, writes counter + 1 against the version it read and retries
+ * on conflict, so any lost update would leave the final counter short, and every attempt has to
+ * end up either applied or reported as a conflict.
+ *
+ * <p>It also times the single-statement conditional PATCH against {@code updateCase}, which reads
+ * the case, copies the fields over and saves it, and logs the mean latency of each.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.jdbc-url=jdbc:h2:mem:patchconcurrency;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.format_sql=false"
+})
+class CasePatchConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int INCREMENTS_PER_THREAD = 25;
+    private static final int TIMED_UPDATES = 500;
+
+    private static final Logger log = LoggerFactory.getLogger(CasePatchConcurrencyTest.class);
+
+    @Autowired
+    private CaseService caseService;
+
+    @Autowired
+    private CaseRepository caseRepository;
+
+    @Test
+    void concurrentConditionalPatches_LoseNoUpdates() throws Exception {
+        Case created = caseService.createCase(newCase("CONCURRENT1"));
+        String id = String.valueOf(created.getId());
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicInteger applied = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        CyclicBarrier start = new CyclicBarrier(THREADS);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < INCREMENTS_PER_THREAD; i++) {
+                        while (true) {
+                            Case current = caseRepository.findById(created.getId()).orElseThrow();
+                            String next = String.valueOf(Integer.parseInt(current.getDescription()) + 1);
+                            attempts.incrementAndGet();
+                            try {
+                                caseService.patchCase(Case.builder().description(next).build(), id,
+                                                      current.getVersion());
+                                applied.incrementAndGet();
+                                break;
+                            } catch (CaseVersionConflictException e) {
+                                conflicts.incrementAndGet();
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+
+        Case result = caseRepository.findById(created.getId()).orElseThrow();
+        int expected = THREADS * INCREMENTS_PER_THREAD;
+        assertThat(applied.get()).isEqualTo(expected);
+        assertThat(conflicts.get()).isEqualTo(attempts.get() - expected);
+        assertThat(result.getDescription()).isEqualTo(String.valueOf(expected));
+        assertThat(result.getVersion()).isEqualTo((long) expected);
+    }
+
+    @Test
+    void patchAndReadModifyWrite_ReportMeanLatency() {
+        Case created = caseService.createCase(newCase("TIMED1"));
+        String id = String.valueOf(created.getId());
+
+        // Warm both paths before timing them
+        timeUpdates(id, false, TIMED_UPDATES);
+        timeUpdates(id, true, TIMED_UPDATES);
+
+        long readModifyWriteNanos = timeUpdates(id, false, TIMED_UPDATES);
+        long patchNanos = timeUpdates(id, true, TIMED_UPDATES);
+        log.info("Mean update latency: read-modify-write {} us, single-statement patch {} us",
+                 readModifyWriteNanos / 1000 / TIMED_UPDATES, patchNanos / 1000 / TIMED_UPDATES);
+
+        Case result = caseRepository.findById(created.getId()).orElseThrow();
+        assertThat(result.getVersion()).isEqualTo(4L * TIMED_UPDATES);
+    }
+
+    private long timeUpdates(String id, boolean patch, int count) {
+        long version = caseRepository.findById(Integer.parseInt(id)).orElseThrow().getVersion();
+        long started = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            Case changes = Case.builder().title("Timed update " + i).build();
+            if (patch) {
+                version = caseService.patchCase(changes, id, version).getVersion();
+            } else {
+                caseService.updateCase(changes, id);
+            }
+        }
+        return System.nanoTime() - started;
+    }
+
+    private static Case newCase(String caseNumber) {
+        return Case.builder()
+                .caseNumber(caseNumber)
+                .title("Concurrency test case")
+                .description("0")
+                .status(CaseStatus.OPEN)
+                .dueDate(LocalDateTime.now().plusDays(30))
+                .build();
+    }
+}
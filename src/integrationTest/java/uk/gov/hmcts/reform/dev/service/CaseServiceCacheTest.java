@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import uk.gov.hmcts.reform.dev.config.CacheConfig;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The Spring cache in front of {@link CaseService#getCaseById}: every spelling of an id shares
+ * one entry, and the bulk writers, which only know the int id, evict that same entry.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.jdbc-url=jdbc:h2:mem:servicecache;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.format_sql=false"
+})
+class CaseServiceCacheTest {
+
+    @Autowired
+    private CaseService caseService;
+
+    @Autowired
+    private CaseBulkService caseBulkService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void getCaseById_SharesOneEntryAcrossSpellingsOfTheId() {
+        Case created = caseService.createCase(newCase("KEYED1"));
+        int id = created.getId();
+        Cache cache = cacheManager.getCache(CacheConfig.CASES_CACHE);
+
+        Case first = caseService.getCaseById("0" + id);
+        Case second = caseService.getCaseById("+" + id);
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.get(id)).isNotNull();
+        assertThat(cache.get("0" + id)).isNull();
+    }
+
+    @Test
+    void bulkTransition_EvictsTheEntryCachedUnderAnySpelling() {
+        Case created = caseService.createCase(newCase("KEYED2"));
+        int id = created.getId();
+        Cache cache = cacheManager.getCache(CacheConfig.CASES_CACHE);
+        caseService.getCaseById("0" + id);
+
+        caseBulkService.transitionStatus(List.of(id), CaseStatus.CLOSED);
+
+        assertThat(cache.get(id)).isNull();
+        assertThat(caseService.getCaseById(String.valueOf(id)).getStatus()).isEqualTo(CaseStatus.CLOSED);
+    }
+
+    private static Case newCase(String caseNumber) {
+        return Case.builder()
+                .caseNumber(caseNumber)
+                .title("Cache key test case")
+                .status(CaseStatus.OPEN)
+                .dueDate(LocalDateTime.now().plusDays(30))
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+package uk.gov.hmcts.reform.dev.benchmark;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import uk.gov.hmcts.reform.dev.Application;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.service.CaseBulkService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Boots the application without a web server against its own embedded H2 database and seeds
+ * it through the bulk insert path.
+ */
+final class BenchmarkApplication {
+
+    static final String[] WORDS = {
+        "contract", "dispute", "tenancy", "employment", "tribunal", "appeal", "probate", "custody",
+        "immigration", "negligence", "insolvency", "licence", "planning", "injury", "debt", "divorce"
+    };
+
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String database, String... extraArguments) {
+        String[] arguments = Stream.concat(Stream.of(
+                "--spring.datasource.jdbc-url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--spring.sql.init.mode=never",
+                "--spring.cache.type=none",
+                "--logging.level.root=WARN"), Stream.of(extraArguments))
+            .toArray(String[]::new);
+        return new SpringApplicationBuilder(Application.class)
+            .web(WebApplicationType.NONE)
+            .run(arguments);
+    }
+
+    static int[] seed(ConfigurableApplicationContext context, int count) {
+        CaseBulkService caseBulkService = context.getBean(CaseBulkService.class);
+        List<Case> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            batch.add(benchmarkCase(i));
+            if (batch.size() == SEED_BATCH_SIZE) {
+                caseBulkService.createCases(batch);
+                batch = new ArrayList<>(SEED_BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty()) {
+            caseBulkService.createCases(batch);
+        }
+        return context.getBean(JdbcTemplate.class)
+            .queryForList("SELECT id FROM cases ORDER BY id", Integer.class)
+            .stream()
+            .mapToInt(Integer::intValue)
+            .toArray();
+    }
+
+    static Case benchmarkCase(int i) {
+        String subject = WORDS[i % WORDS.length];
+        String detail = WORDS[(i / WORDS.length) % WORDS.length];
+        return Case.builder()
+            .caseNumber("BM" + i)
+            .title("Benchmark " + subject + " case " + i)
+            .description("Seeded " + subject + " matter concerning " + detail + " for benchmark run")
+            .status(CaseStatus.values()[i % CaseStatus.values().length])
+            .dueDate(LocalDateTime.now().plusDays(1 + i % 365))
+            .build();
+    }
+}
@@ -0,0 +1,58 @@
+package uk.gov.hmcts.reform.dev.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import uk.gov.hmcts.reform.dev.search.CaseSearchService;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Search latency for the in-memory index against the LIKE query it replaces.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CaseSearchBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int tableSize;
+
+    @Param({"index", "database"})
+    public String mode;
+
+    private ConfigurableApplicationContext context;
+    private CaseSearchService caseSearchService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("search" + mode + tableSize, "--cases.search.mode=" + mode);
+        BenchmarkApplication.seed(context, tableSize);
+        caseSearchService = context.getBean(CaseSearchService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object searchCommonWord() {
+        String[] words = BenchmarkApplication.WORDS;
+        return caseSearchService.searchCases(words[ThreadLocalRandom.current().nextInt(words.length)], 0, 20);
+    }
+
+    @Benchmark
+    public Object searchCaseNumber() {
+        return caseSearchService.searchCases("BM" + ThreadLocalRandom.current().nextInt(tableSize), 0, 20);
+    }
+}
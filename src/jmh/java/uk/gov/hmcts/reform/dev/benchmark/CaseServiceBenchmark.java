@@ -0,0 +1,81 @@
+package uk.gov.hmcts.reform.dev.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.service.CaseService;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service-level latency of the main read and write paths, through the real repository and
+ * H2, at several table sizes. The entity cache is off so every call reaches the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CaseServiceBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000", "10000", "100000"})
+    public int tableSize;
+
+    private ConfigurableApplicationContext context;
+    private CaseService caseService;
+    private int[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("service" + tableSize);
+        ids = BenchmarkApplication.seed(context, tableSize);
+        caseService = context.getBean(CaseService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private int randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+
+    @Benchmark
+    public Case getCaseById() {
+        return caseService.getCaseById(String.valueOf(randomId()));
+    }
+
+    @Benchmark
+    public Object fetchCaseListFirstPage() {
+        return caseService.fetchCaseList(0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Object fetchCaseListLastPage() {
+        return caseService.fetchCaseList((ids.length - 1) / PAGE_SIZE, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Object fetchCaseListLastPageByCursor() {
+        return caseService.fetchCaseListAfter(String.valueOf(ids[Math.max(ids.length - PAGE_SIZE - 1, 0)]),
+                                              PAGE_SIZE, null);
+    }
+
+    @Benchmark
+    public Case updateCase() {
+        Case changes = new Case();
+        changes.setTitle("Benchmark update " + ThreadLocalRandom.current().nextInt(1_000_000));
+        return caseService.updateCase(changes, String.valueOf(randomId()));
+    }
+}
@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.dev.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseSummary;
+import uk.gov.hmcts.reform.dev.models.PagedResponse;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson cost of the response bodies, using an ObjectMapper configured the way Spring MVC
+ * builds it (JavaTimeModule, ISO dates).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Case myCase;
+    private byte[] caseJson;
+    private PagedResponse<CaseSummary> page;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        myCase = BenchmarkApplication.benchmarkCase(42);
+        myCase.setId(42);
+        myCase.setCreatedDate(LocalDateTime.now());
+        myCase.setUpdatedDate(LocalDateTime.now());
+        caseJson = objectMapper.writeValueAsBytes(myCase);
+
+        List<CaseSummary> content = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Case pageCase = BenchmarkApplication.benchmarkCase(i);
+            pageCase.setId(i + 1);
+            pageCase.setCreatedDate(LocalDateTime.now());
+            content.add(CaseSummary.of(pageCase));
+        }
+        page = new PagedResponse<>(content, 0, 20, 100_000);
+    }
+
+    @Benchmark
+    public byte[] serializeCase() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(myCase);
+    }
+
+    @Benchmark
+    public Case deserializeCase() throws IOException {
+        return objectMapper.readValue(caseJson, Case.class);
+    }
+
+    @Benchmark
+    public byte[] serializePagedResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
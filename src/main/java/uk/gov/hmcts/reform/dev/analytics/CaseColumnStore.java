@@ -0,0 +1,330 @@
+package uk.gov.hmcts.reform.dev.analytics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.reform.dev.events.CaseChangeBuffer;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseStats;
+import uk.gov.hmcts.reform.dev.models.CaseStatsGroup;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.service.CaseScanner;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Columnar read model of every case for aggregate queries: one primitive array per column,
+ * with the status as its ordinal byte and dates as epoch seconds, about 21 bytes a case plus
+ * an open-addressing id index. Only the columns the statistics need are kept; the free-text
+ * columns are unique per case, so dictionary-encoding them would save nothing.
+ *
+ * <p>Queries scan the columns in parallel on the common fork-join pool, each task tallying
+ * its slice into a {@link GroupCounts} before the slices are merged. Writers take the write
+ * lock only to touch one row, and scans share the read lock. Built once the application is
+ * ready and then kept current from {@link CaseChangedEvent}s, with changes that arrive mid-build
+ * held back and replayed after the scan; a deleted row is blanked and reused by the next insert.
+ */
+@Component
+public class CaseColumnStore {
+
+    private static final Logger log = LoggerFactory.getLogger(CaseColumnStore.class);
+
+    // Status byte of a deleted row, and the date value of a missing date
+    private static final byte DELETED = -1;
+    private static final long NO_DATE = Long.MIN_VALUE;
+
+    private static final long SECONDS_PER_DAY = 86_400;
+
+    // Group keys pack (status ordinal + 1) into bits 48-55 and offset epoch days into 24-47 and 0-23;
+    // a zero field means the dimension is not grouped (or the date is missing)
+    private static final long DAY_OFFSET = 1L << 23;
+    private static final long DAY_MASK = (1L << 24) - 1;
+
+    // Rows per fork-join leaf; smaller slices cost more in task overhead than they gain in parallelism
+    private static final int SCAN_SLICE = 1 << 15;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final CaseChangeBuffer changes = new CaseChangeBuffer();
+
+    private int[] ids = new int[1024];
+    private byte[] statuses = new byte[1024];
+    private long[] createdAt = new long[1024];
+    private long[] dueAt = new long[1024];
+    // Rows ever used, and the deleted ones among them waiting for reuse
+    private int rows;
+    private int[] freeRows = new int[16];
+    private int freeCount;
+    // Linear-probing index from case id to row + 1 (0 is empty), kept at most half full
+    private int[] index = new int[2048];
+
+    @Autowired
+    private CaseScanner caseScanner;
+
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rows - freeCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        long scanned;
+        changes.hold();
+        try {
+            scanned = caseScanner.forEachCase(this::upsert);
+        } finally {
+            changes.replay(this::apply);
+        }
+        ready = true;
+        log.info("Case column store built: {} cases in {} ms",
+                 scanned, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCaseChanged(CaseChangedEvent event) {
+        if (!changes.offer(event)) {
+            apply(event);
+        }
+    }
+
+    private void apply(CaseChangedEvent event) {
+        if (event.type() == CaseChangedEvent.ChangeType.DELETED) {
+            remove(event.caseId());
+        } else {
+            upsert(event.current());
+        }
+    }
+
+    public void upsert(Case myCase) {
+        if (myCase.getStatus() == null) {
+            remove(myCase.getId());
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            int slot = slot(myCase.getId());
+            int row;
+            if (index[slot] != 0) {
+                row = index[slot] - 1;
+            } else {
+                row = allocateRow();
+                ids[row] = myCase.getId();
+                index[slot] = row + 1;
+                if ((rows - freeCount) * 2 > index.length) {
+                    rehash(index.length * 2);
+                }
+            }
+            statuses[row] = (byte) myCase.getStatus().ordinal();
+            createdAt[row] = epochSecond(myCase.getCreatedDate());
+            dueAt[row] = epochSecond(myCase.getDueDate());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int caseId) {
+        lock.writeLock().lock();
+        try {
+            int slot = slot(caseId);
+            if (index[slot] == 0) {
+                return;
+            }
+            int row = index[slot] - 1;
+            unindex(slot);
+            statuses[row] = DELETED;
+            if (freeCount == freeRows.length) {
+                freeRows = Arrays.copyOf(freeRows, freeRows.length * 2);
+            }
+            freeRows[freeCount++] = row;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Case counts grouped by the given dimensions, optionally limited to cases created in
+     * {@code [createdFrom, createdTo)}; groups come back in status, day, week order.
+     */
+    public CaseStats stats(Set<StatsDimension> groupBy, LocalDateTime createdFrom, LocalDateTime createdTo) {
+        GroupCounts counts;
+        lock.readLock().lock();
+        try {
+            ScanTask scan = new ScanTask(this, 0, rows, groupBy,
+                                         createdFrom != null ? epochSecond(createdFrom) : Long.MIN_VALUE,
+                                         createdTo != null ? epochSecond(createdTo) : Long.MAX_VALUE,
+                                         createdFrom != null || createdTo != null);
+            counts = rows > SCAN_SLICE ? ForkJoinPool.commonPool().invoke(scan) : scan.compute();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        long total = 0;
+        List<CaseStatsGroup> groups = new ArrayList<>(counts.size());
+        for (long key : counts.sortedKeys()) {
+            long count = counts.count(key);
+            total += count;
+            groups.add(new CaseStatsGroup(
+                    groupBy.contains(StatsDimension.STATUS) ? CaseStatus.values()[(int) (key >>> 48) - 1] : null,
+                    day(key >>> 24), day(key), count));
+        }
+        return new CaseStats(total, groups);
+    }
+
+    private static final class ScanTask extends RecursiveTask<GroupCounts> {
+
+        private final CaseColumnStore store;
+        private final int from;
+        private final int to;
+        private final Set<StatsDimension> groupBy;
+        private final long createdFrom;
+        private final long createdTo;
+        private final boolean filtered;
+
+        private ScanTask(CaseColumnStore store, int from, int to, Set<StatsDimension> groupBy,
+                         long createdFrom, long createdTo, boolean filtered) {
+            this.store = store;
+            this.from = from;
+            this.to = to;
+            this.groupBy = groupBy;
+            this.createdFrom = createdFrom;
+            this.createdTo = createdTo;
+            this.filtered = filtered;
+        }
+
+        @Override
+        protected GroupCounts compute() {
+            if (to - from > SCAN_SLICE) {
+                int middle = (from + to) >>> 1;
+                ScanTask left = new ScanTask(store, from, middle, groupBy, createdFrom, createdTo, filtered);
+                left.fork();
+                GroupCounts counts = new ScanTask(store, middle, to, groupBy, createdFrom, createdTo, filtered)
+                        .compute();
+                counts.addAll(left.join());
+                return counts;
+            }
+
+            boolean byStatus = groupBy.contains(StatsDimension.STATUS);
+            boolean byCreatedDay = groupBy.contains(StatsDimension.CREATED_DAY);
+            boolean byDueWeek = groupBy.contains(StatsDimension.DUE_WEEK);
+            byte[] statuses = store.statuses;
+            long[] createdAt = store.createdAt;
+            long[] dueAt = store.dueAt;
+
+            GroupCounts counts = new GroupCounts();
+            for (int row = from; row < to; row++) {
+                byte status = statuses[row];
+                if (status == DELETED) {
+                    continue;
+                }
+                long created = createdAt[row];
+                if (filtered && (created == NO_DATE || created < createdFrom || created >= createdTo)) {
+                    continue;
+                }
+                long key = 0;
+                if (byStatus) {
+                    key |= (long) (status + 1) << 48;
+                }
+                if (byCreatedDay && created != NO_DATE) {
+                    key |= (Math.floorDiv(created, SECONDS_PER_DAY) + DAY_OFFSET) << 24;
+                }
+                long due = dueAt[row];
+                if (byDueWeek && due != NO_DATE) {
+                    long day = Math.floorDiv(due, SECONDS_PER_DAY);
+                    // Epoch day 0 was a Thursday; step back to that week's Monday
+                    key |= day - Math.floorMod(day + 3, 7) + DAY_OFFSET;
+                }
+                counts.add(key, 1);
+            }
+            return counts;
+        }
+    }
+
+    private int allocateRow() {
+        if (freeCount > 0) {
+            return freeRows[--freeCount];
+        }
+        if (rows == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            createdAt = Arrays.copyOf(createdAt, capacity);
+            dueAt = Arrays.copyOf(dueAt, capacity);
+        }
+        return rows++;
+    }
+
+    // Slot holding the case id, or the empty slot where it would go
+    private int slot(int caseId) {
+        int mask = index.length - 1;
+        int slot = home(caseId, mask);
+        while (index[slot] != 0 && ids[index[slot] - 1] != caseId) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    // Backward-shift deletion, so lookups never need tombstones in the index
+    private void unindex(int slot) {
+        int mask = index.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (index[next] != 0) {
+            int home = home(ids[index[next] - 1], mask);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                index[hole] = index[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        index[hole] = 0;
+    }
+
+    private void rehash(int capacity) {
+        int[] old = index;
+        index = new int[capacity];
+        for (int entry : old) {
+            if (entry != 0) {
+                index[slot(ids[entry - 1])] = entry;
+            }
+        }
+    }
+
+    private static int home(int caseId, int mask) {
+        int h = caseId * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static long epochSecond(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toEpochSecond(ZoneOffset.UTC) : NO_DATE;
+    }
+
+    private static LocalDate day(long field) {
+        long offsetDay = field & DAY_MASK;
+        return offsetDay == 0 ? null : LocalDate.ofEpochDay(offsetDay - DAY_OFFSET);
+    }
+}
@@ -0,0 +1,50 @@
+package uk.gov.hmcts.reform.dev.analytics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.dev.exception.InvalidRequestParameterException;
+import uk.gov.hmcts.reform.dev.models.CaseStats;
+import uk.gov.hmcts.reform.dev.service.CaseScanner;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+
+/**
+ * Aggregate case counts for reporting, answered from {@link CaseColumnStore}. Until the store
+ * has been built the same scan runs over a throwaway store filled from the database, which is
+ * slow but gives identical answers.
+ */
+@Service
+public class CaseStatsService {
+
+    @Autowired
+    private CaseColumnStore columnStore;
+
+    @Autowired
+    private CaseScanner caseScanner;
+
+    public CaseStats stats(String groupBy, String createdFrom, String createdTo) {
+        Set<StatsDimension> dimensions = StatsDimension.parse(groupBy);
+        LocalDateTime from = parse("createdFrom", createdFrom);
+        LocalDateTime to = parse("createdTo", createdTo);
+
+        if (columnStore.isReady()) {
+            return columnStore.stats(dimensions, from, to);
+        }
+        CaseColumnStore snapshot = new CaseColumnStore();
+        caseScanner.forEachCase(snapshot::upsert);
+        return snapshot.stats(dimensions, from, to);
+    }
+
+    private static LocalDateTime parse(String name, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new InvalidRequestParameterException("Invalid " + name + ": " + value);
+        }
+    }
+}
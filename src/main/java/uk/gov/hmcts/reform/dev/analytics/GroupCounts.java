@@ -0,0 +1,96 @@
+package uk.gov.hmcts.reform.dev.analytics;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from a packed group key to a count, so a scan can tally millions of
+ * rows without boxing a Long per row. Not thread-safe: each scan task fills its own and the
+ * results are merged.
+ */
+final class GroupCounts {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private long[] keys;
+    private long[] counts;
+    private int size;
+
+    GroupCounts() {
+        keys = new long[16];
+        counts = new long[16];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    void add(long key, long count) {
+        int slot = slot(keys, key);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            if (++size * 2 > keys.length) {
+                counts[slot] = count;
+                grow();
+                return;
+            }
+        }
+        counts[slot] += count;
+    }
+
+    void addAll(GroupCounts other) {
+        for (int i = 0; i < other.keys.length; i++) {
+            if (other.keys[i] != EMPTY) {
+                add(other.keys[i], other.counts[i]);
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    // Keys in ascending order
+    long[] sortedKeys() {
+        long[] sorted = new long[size];
+        int next = 0;
+        for (long key : keys) {
+            if (key != EMPTY) {
+                sorted[next++] = key;
+            }
+        }
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    long count(long key) {
+        int slot = slot(keys, key);
+        return keys[slot] == EMPTY ? 0 : counts[slot];
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldCounts = counts;
+        keys = new long[oldKeys.length * 2];
+        counts = new long[oldKeys.length * 2];
+        Arrays.fill(keys, EMPTY);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slot(keys, oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+    }
+
+    // Linear probing from a mixed hash; the table is at most half full, so a free slot always exists
+    private static int slot(long[] table, long key) {
+        int mask = table.length - 1;
+        int slot = (int) (mix(key) & mask);
+        while (table[slot] != EMPTY && table[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static long mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 32);
+    }
+}
@@ -0,0 +1,48 @@
+package uk.gov.hmcts.reform.dev.analytics;
+
+import uk.gov.hmcts.reform.dev.exception.InvalidRequestParameterException;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * What GET /cases/stats can group by. Days and weeks are calendar dates of the stored
+ * (zone-less) timestamps; weeks start on Monday.
+ */
+public enum StatsDimension {
+    STATUS("status"),
+    CREATED_DAY("createdDay"),
+    DUE_WEEK("dueWeek");
+
+    private final String parameter;
+
+    StatsDimension(String parameter) {
+        this.parameter = parameter;
+    }
+
+    public String getParameter() {
+        return parameter;
+    }
+
+    // Comma-separated parameter names; blank means no grouping (a single total)
+    public static Set<StatsDimension> parse(String groupBy) {
+        Set<StatsDimension> dimensions = EnumSet.noneOf(StatsDimension.class);
+        if (groupBy == null || groupBy.isBlank()) {
+            return dimensions;
+        }
+        for (String name : groupBy.split(",")) {
+            dimensions.add(fromParameter(name.trim()));
+        }
+        return dimensions;
+    }
+
+    private static StatsDimension fromParameter(String name) {
+        for (StatsDimension dimension : values()) {
+            if (dimension.parameter.equalsIgnoreCase(name)) {
+                return dimension;
+            }
+        }
+        throw new InvalidRequestParameterException(
+                "Invalid groupBy: " + name + " (expected status, createdDay or dueWeek)");
+    }
+}
@@ -0,0 +1,92 @@
+package uk.gov.hmcts.reform.dev.bulkhead;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.exception.BulkheadFullException;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+
+/**
+ * Caps the number of case requests running at once at the size of the connection pool.
+ *
+ * <p>With virtual threads Tomcat no longer limits concurrency, so a burst would otherwise
+ * pile thousands of threads into Hikari's getConnection. Waiting here instead parks each
+ * virtual thread on a fair semaphore, which costs a few hundred bytes and does not pin a
+ * carrier thread. A request that cannot get a permit within the timeout is rejected with
+ * 503 rather than queueing without limit.
+ *
+ * <p>The permit covers the controller method only: a streamed export releases it as soon
+ * as the response body is handed back, and holds its own connection while it writes.
+ *
+ * <p>With write-behind on, POST /cases takes no permit. It spends its time waiting for the
+ * queue's writer to commit its group, which needs no connection of its own, and holding a
+ * permit for that wait would cap each group commit at the pool size. The write queue bounds
+ * that path itself.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "cases.bulkhead.enabled", havingValue = "true")
+public class DatabaseBulkhead {
+
+    private static final int DEFAULT_PERMITS = 10;
+
+    private final Semaphore permits;
+    private final long timeoutNanos;
+    private final boolean writeBehind;
+
+    public DatabaseBulkhead(DataSource dataSource, MeterRegistry registry,
+                            @Value("${cases.bulkhead.timeout:5s}") Duration timeout,
+                            @Value("${cases.write-behind.enabled:false}") boolean writeBehind) {
+        this.permits = new Semaphore(poolSize(dataSource), true);
+        this.timeoutNanos = timeout.toNanos();
+        this.writeBehind = writeBehind;
+
+        Gauge.builder("cases.bulkhead.available", permits, Semaphore::availablePermits)
+                .description("Bulkhead permits not currently held by a request")
+                .register(registry);
+        Gauge.builder("cases.bulkhead.waiting", permits, Semaphore::getQueueLength)
+                .description("Requests waiting for a bulkhead permit")
+                .register(registry);
+    }
+
+    // With a read replica the routing DataSource unwraps to the primary pool, which bounds writes
+    private static int poolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            // fall back to the default below
+        }
+        return DEFAULT_PERMITS;
+    }
+
+    @Around("within(uk.gov.hmcts.reform.dev.controllers.Case*Controller)"
+            + " && !execution(* uk.gov.hmcts.reform.dev.controllers.CaseController.createCase(..))")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS)) {
+            throw new BulkheadFullException("Too many concurrent requests, please retry shortly");
+        }
+        try {
+            return joinPoint.proceed();
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Around("execution(* uk.gov.hmcts.reform.dev.controllers.CaseController.createCase(..))")
+    public Object limitCreate(ProceedingJoinPoint joinPoint) throws Throwable {
+        return writeBehind ? joinPoint.proceed() : limit(joinPoint);
+    }
+}
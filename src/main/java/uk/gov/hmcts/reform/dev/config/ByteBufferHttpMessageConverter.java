@@ -0,0 +1,58 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+
+/**
+ * Writes a {@link ByteBuffer} body as it is, without first copying it into a {@code byte[]}.
+ * A heap buffer is written straight from its array; a direct buffer goes through a channel,
+ * so serving one costs a copy into the response buffer and no body-sized allocation.
+ */
+@Component
+public class ByteBufferHttpMessageConverter extends AbstractHttpMessageConverter<ByteBuffer> {
+
+    public ByteBufferHttpMessageConverter() {
+        super(MediaType.ALL);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ByteBuffer.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ByteBuffer readInternal(Class<? extends ByteBuffer> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Request bodies are not read as ByteBuffer", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(ByteBuffer buffer, MediaType contentType) {
+        return (long) buffer.remaining();
+    }
+
+    @Override
+    protected void writeInternal(ByteBuffer buffer, HttpOutputMessage outputMessage) throws IOException {
+        // The buffer may be shared with other requests, so its position is left alone
+        ByteBuffer body = buffer.duplicate();
+        OutputStream out = outputMessage.getBody();
+        if (body.hasArray()) {
+            out.write(body.array(), body.arrayOffset() + body.position(), body.remaining());
+        } else {
+            Channels.newChannel(out).write(body);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the Spring cache abstraction. The provider, size and TTL of each cache are set
+ * under spring.cache in application.yml; spring.cache.type=none switches caching off.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String CASES_CACHE = "cases";
+
+    // Key expression for the cases cache, so "1", "01" and "+1" share one entry and writers
+    // that only know the int id evict the same one
+    public static final String CASE_KEY = "T(uk.gov.hmcts.reform.dev.config.CacheConfig).caseKey(#caseId)";
+
+    // The id as an int, or the raw string when it is not one; such ids never reach the cache
+    // anyway, since looking them up throws
+    public static Object caseKey(String caseId) {
+        try {
+            return Integer.parseInt(caseId);
+        } catch (NumberFormatException e) {
+            return caseId;
+        }
+    }
+}
@@ -1,9 +1,18 @@
 package uk.gov.hmcts.reform.dev.config;
 
+import com.zaxxer.hikari.HikariDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import uk.gov.hmcts.reform.dev.datasource.ReadWriteRoutingDataSource;
+import uk.gov.hmcts.reform.dev.datasource.StatementMonitor;
 
 import javax.sql.DataSource;
 import org.springframework.boot.jdbc.DataSourceBuilder;
@@ -13,10 +22,43 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @EnableJpaRepositories(basePackages = "uk.gov.hmcts.reform.dev.repository")
 @EnableJpaAuditing
 public class DatabaseConfig {
-    
+
     @Bean
     @ConfigurationProperties(prefix = "spring.datasource")
-    public DataSource dataSource() {
-        return DataSourceBuilder.create().build();
+    public HikariDataSource primaryDataSource() {
+        return DataSourceBuilder.create().type(HikariDataSource.class).build();
+    }
+
+    // Read-only transactions (lists, search, export) go here when cases.datasource.replica.enabled is set
+    @Bean
+    @ConditionalOnProperty(name = "cases.datasource.replica.enabled", havingValue = "true")
+    @ConfigurationProperties(prefix = "cases.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        return DataSourceBuilder.create().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primary,
+                                 @Qualifier("replicaDataSource") ObjectProvider<HikariDataSource> replica,
+                                 ObjectProvider<StatementMonitor> statementMonitor) {
+        StatementMonitor monitor = statementMonitor.getIfAvailable();
+        HikariDataSource replicaPool = replica.getIfAvailable();
+        if (replicaPool == null) {
+            return instrument(primary, monitor);
+        }
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(instrument(primary, monitor),
+                                                                                instrument(replicaPool, monitor)));
+    }
+
+    // Each pool is wrapped on its own, so statement timings are tagged with the pool that ran them
+    private static DataSource instrument(HikariDataSource pool, StatementMonitor monitor) {
+        if (monitor == null) {
+            return pool;
+        }
+        return ProxyDataSourceBuilder.create(pool)
+                .name(pool.getPoolName())
+                .listener(monitor)
+                .build();
     }
 }
@@ -0,0 +1,81 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level and query cache regions, held in a Caffeine JCache manager that is
+ * built from cases.hibernate-cache.regions in application.yml rather than a provider config
+ * file. Each region gets its own size bound and TTL; regions left unconfigured are created
+ * unbounded by Hibernate, with a warning. Switched on and off under spring.jpa.properties.
+ */
+@Configuration
+@EnableConfigurationProperties(HibernateCacheConfig.RegionProperties.class)
+public class HibernateCacheConfig {
+
+    // Case entities by id
+    public static final String CASE_REGION = "case-entities";
+
+    // Results of status lookups and counts
+    public static final String STATUS_QUERY_REGION = "case-status-queries";
+
+    @ConfigurationProperties(prefix = "cases.hibernate-cache")
+    public record RegionProperties(Map<String, Region> regions) {
+    }
+
+    // Either limit may be left out; a region with neither is never evicted
+    public record Region(Long maximumSize, Duration expireAfterWrite) {
+    }
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(RegionProperties properties) {
+        // A manager of its own per application context, so contexts on different databases never share entries
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        Map<String, Region> regions = new LinkedHashMap<>();
+        if (properties.regions() != null) {
+            regions.putAll(properties.regions());
+        }
+        // Query results are checked against these per-table timestamps; evicting one could serve stale results
+        regions.put(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, new Region(null, null));
+
+        regions.forEach((name, region) -> cacheManager.createCache(name, configuration(region)));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> configuration(Region region) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        // Hibernate already stores disassembled entries, so copying them on every access buys nothing
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        if (region.maximumSize() != null) {
+            configuration.setMaximumSize(OptionalLong.of(region.maximumSize()));
+        }
+        if (region.expireAfterWrite() != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(region.expireAfterWrite().toNanos()));
+        }
+        return configuration;
+    }
+}
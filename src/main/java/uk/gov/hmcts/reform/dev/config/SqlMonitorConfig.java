@@ -0,0 +1,47 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import uk.gov.hmcts.reform.dev.datasource.SqlMonitorEndpoint;
+import uk.gov.hmcts.reform.dev.datasource.StatementMonitor;
+import uk.gov.hmcts.reform.dev.datasource.StatementScopeFilter;
+
+import java.time.Duration;
+
+/**
+ * JDBC statement monitoring: DatabaseConfig wraps each Hikari pool in a datasource-proxy
+ * that reports to the {@link StatementMonitor} defined here. Switched off with
+ * cases.sql-monitor.enabled=false, which leaves the pools unwrapped.
+ */
+@Configuration
+@ConditionalOnProperty(name = "cases.sql-monitor.enabled", havingValue = "true")
+public class SqlMonitorConfig {
+
+    @Bean
+    public StatementMonitor statementMonitor(MeterRegistry registry,
+                                             @Value("${cases.sql-monitor.slow-threshold:200ms}") Duration slowThreshold,
+                                             @Value("${cases.sql-monitor.log-size:100}") int logSize,
+                                             @Value("${cases.sql-monitor.repeat-threshold:10}") int repeatThreshold,
+                                             @Value("${cases.sql-monitor.max-statements:500}") int maxStatements) {
+        return new StatementMonitor(registry, slowThreshold, logSize, repeatThreshold, maxStatements);
+    }
+
+    // Outermost, so statements from any other filter count towards the request too
+    @Bean
+    public FilterRegistrationBean<StatementScopeFilter> statementScopeFilter(StatementMonitor statementMonitor) {
+        FilterRegistrationBean<StatementScopeFilter> registration =
+                new FilterRegistrationBean<>(new StatementScopeFilter(statementMonitor));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public SqlMonitorEndpoint sqlMonitorEndpoint(StatementMonitor statementMonitor) {
+        return new SqlMonitorEndpoint(statementMonitor);
+    }
+}
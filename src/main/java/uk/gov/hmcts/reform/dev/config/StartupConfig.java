@@ -0,0 +1,71 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/**
+ * Defers beans that a new replica does not need to serve cases. Beans declared by classes in
+ * the packages under cases.startup.lazy-packages are made lazy, so they are created on first
+ * use instead of during startup; the fast-startup profile lists springdoc, whose OpenAPI and
+ * Swagger UI beans only answer documentation requests.
+ *
+ * <p>A lazy bean that an eager bean depends on is still created at startup. With Spring AOT
+ * the list is read at build time, when the bean definitions are generated.
+ */
+@Configuration
+public class StartupConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupConfig.class);
+
+    // Static so it can run before the other configuration classes are instantiated
+    @Bean
+    public static BeanFactoryPostProcessor lazyPackagesPostProcessor(Environment environment) {
+        List<String> packages = Binder.get(environment)
+                .bind("cases.startup.lazy-packages", Bindable.listOf(String.class))
+                .orElse(List.of());
+        return beanFactory -> {
+            int lazy = makeLazy(beanFactory, packages);
+            if (lazy > 0) {
+                log.info("Deferred {} beans from {} until first use", lazy, packages);
+            }
+        };
+    }
+
+    static int makeLazy(ConfigurableListableBeanFactory beanFactory, List<String> packages) {
+        if (packages.isEmpty()) {
+            return 0;
+        }
+        int lazy = 0;
+        for (String name : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(name);
+            if (definition.isLazyInit() || definition.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE) {
+                continue;
+            }
+            String declaringClass = declaringClass(beanFactory, definition);
+            if (declaringClass != null && packages.stream().anyMatch(pkg -> declaringClass.startsWith(pkg + "."))) {
+                definition.setLazyInit(true);
+                lazy++;
+            }
+        }
+        return lazy;
+    }
+
+    // The bean's own class, or for a @Bean method the configuration class that declares it
+    private static String declaringClass(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        String factoryBean = definition.getFactoryBeanName();
+        if (factoryBean != null && beanFactory.containsBeanDefinition(factoryBean)) {
+            return beanFactory.getBeanDefinition(factoryBean).getBeanClassName();
+        }
+        return definition.getBeanClassName();
+    }
+}
@@ -0,0 +1,119 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import uk.gov.hmcts.reform.dev.models.BulkResponse;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.StatusTransitionRequest;
+import uk.gov.hmcts.reform.dev.service.CaseBulkService;
+
+import java.util.List;
+
+@RestController
+@Validated
+@Tag(name = "Case Management", description = "APIs for managing cases")
+public class CaseBulkController {
+
+    @Autowired private CaseBulkService caseBulkService;
+
+    @Operation(summary = "Create cases in bulk",
+               description = "Validate and insert a list of cases in JDBC batches, reporting a result per item")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201",
+                    description = "All cases created",
+                    content = @Content(mediaType = "application/json",
+                                     schema = @Schema(implementation = BulkResponse.class))),
+        @ApiResponse(responseCode = "207",
+                    description = "Some cases were rejected; see the per-item results",
+                    content = @Content(mediaType = "application/json",
+                                     schema = @Schema(implementation = BulkResponse.class))),
+        @ApiResponse(responseCode = "413",
+                    description = "Too many cases in one request",
+                    content = @Content())
+    })
+
+    @PostMapping(value = "/cases/batch")
+    public ResponseEntity<BulkResponse> createCases(
+        @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                description = "Cases to create",
+                required = true)
+        @RequestBody List<Case> cases) {
+        BulkResponse response = caseBulkService.createCases(cases);
+        HttpStatus status = response.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @Operation(summary = "Change the status of many cases",
+               description = "Move a list of cases to one status with chunked set-based UPDATEs, "
+                       + "reporting a result per ID")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200",
+                    description = "Every case was updated or already had the status",
+                    content = @Content(mediaType = "application/json",
+                                     schema = @Schema(implementation = BulkResponse.class))),
+        @ApiResponse(responseCode = "207",
+                    description = "Some IDs were not found or were rejected; see the per-item results",
+                    content = @Content(mediaType = "application/json",
+                                     schema = @Schema(implementation = BulkResponse.class))),
+        @ApiResponse(responseCode = "400",
+                    description = "Missing IDs or status",
+                    content = @Content()),
+        @ApiResponse(responseCode = "413",
+                    description = "Too many IDs in one request",
+                    content = @Content())
+    })
+
+    @PostMapping(value = "/cases/status-transitions")
+    public ResponseEntity<BulkResponse> transitionStatus(
+        @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                description = "Case IDs and the status to move them to",
+                required = true)
+        @Valid @RequestBody StatusTransitionRequest transition) {
+        BulkResponse response = caseBulkService.transitionStatus(transition.getIds(), transition.getStatus());
+        return bulkResult(response);
+    }
+
+    @Operation(summary = "Delete many cases",
+               description = "Delete a list of cases with chunked set-based DELETEs, reporting a result per ID")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200",
+                    description = "Every case was deleted",
+                    content = @Content(mediaType = "application/json",
+                                     schema = @Schema(implementation = BulkResponse.class))),
+        @ApiResponse(responseCode = "207",
+                    description = "Some IDs were not found or were rejected; see the per-item results",
+                    content = @Content(mediaType = "application/json",
+                                     schema = @Schema(implementation = BulkResponse.class))),
+        @ApiResponse(responseCode = "413",
+                    description = "Too many IDs in one request",
+                    content = @Content())
+    })
+
+    @DeleteMapping(value = "/cases")
+    public ResponseEntity<BulkResponse> deleteCases(
+        @Parameter(description = "Comma-separated case IDs", required = true, example = "1,2,3")
+        @RequestParam("ids") List<Integer> ids) {
+        return bulkResult(caseBulkService.deleteCases(ids));
+    }
+
+    private static ResponseEntity<BulkResponse> bulkResult(BulkResponse response) {
+        return ResponseEntity.status(response.getFailed() == 0 ? HttpStatus.OK : HttpStatus.MULTI_STATUS).body(response);
+    }
+}
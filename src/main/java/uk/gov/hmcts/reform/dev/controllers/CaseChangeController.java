@@ -0,0 +1,46 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import uk.gov.hmcts.reform.dev.feed.CaseChange;
+import uk.gov.hmcts.reform.dev.feed.CaseChangeFeed;
+
+@RestController
+@Validated
+@Tag(name = "Case Management", description = "APIs for managing cases")
+public class CaseChangeController {
+
+    @Autowired private CaseChangeFeed caseChangeFeed;
+
+    @Operation(summary = "Stream case changes",
+               description = "Server-Sent Events feed of committed creates, updates and deletes. Each event's id is "
+                       + "its sequence number; reconnect with Last-Event-ID to resume after it. A 'reset' event "
+                       + "means changes were missed and the client should reload its list")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200",
+                    description = "Stream opened",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                                     schema = @Schema(implementation = CaseChange.class)))
+    })
+
+    @GetMapping(value = "/cases/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+        @Parameter(description = "Id of the last event received, to resume after it")
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return caseChangeFeed.subscribe(lastEventId);
+    }
+}
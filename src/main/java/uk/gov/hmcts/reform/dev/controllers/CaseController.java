@@ -2,10 +2,15 @@ package uk.gov.hmcts.reform.dev.controllers;
 
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.http.HttpStatus;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,17 +20,24 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import uk.gov.hmcts.reform.dev.exception.CasePreconditionRequiredException;
 import uk.gov.hmcts.reform.dev.models.ExampleCase;
 import uk.gov.hmcts.reform.dev.models.PagedResponse;
+import uk.gov.hmcts.reform.dev.search.CaseSearchService;
+import uk.gov.hmcts.reform.dev.service.CaseEtagService;
+import uk.gov.hmcts.reform.dev.service.CaseExportService;
+import uk.gov.hmcts.reform.dev.service.CaseJsonCache;
 import uk.gov.hmcts.reform.dev.service.CaseService;
 import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseExportFormat;
 import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.models.CaseSummary;
 
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.Arrays;
-import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import static org.springframework.http.ResponseEntity.ok;
 
@@ -36,6 +48,14 @@ public class CaseController {
 
     @Autowired private CaseService caseService;
 
+    @Autowired private CaseExportService caseExportService;
+
+    @Autowired private CaseSearchService caseSearchService;
+
+    @Autowired private CaseEtagService caseEtagService;
+
+    @Autowired private CaseJsonCache caseJsonCache;
+
     @Operation(summary = "Get example case", 
                description = "Returns a sample case for testing purposes")
     @ApiResponses(value = {
@@ -52,18 +72,93 @@ public class CaseController {
     }
 
     @Operation(summary = "Get all cases", 
-               description = "Retrieve all cases with optional pagination")
+               description = "Retrieve cases a page at a time, either by page number or by keyset cursor "
+                       + "(pass after and/or limit; the response carries nextCursor and skips the total count). "
+                       + "Items are summaries without the description; fetch a case by id for the full record")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", 
                     description = "List of cases retrieved successfully",
-                    content = @Content(mediaType = "application/json"))
+                    content = @Content(mediaType = "application/json")),
+        @ApiResponse(responseCode = "304",
+                    description = "No case has changed since the page matching If-None-Match was served",
+                    content = @Content())
     })
 
     @GetMapping(value = "/cases")
-    public ResponseEntity<PagedResponse<Case>> getCases(
+    public ResponseEntity<PagedResponse<CaseSummary>> getCases(
+        @Parameter(description = "Page number for pagination", example = "0")
+        @RequestParam(defaultValue = "0") int page,
+        @Parameter(description = "Page size (maximum 100)", example = "20")
+        @RequestParam(defaultValue = "20") int size,
+        @Parameter(description = "Cursor from a previous response: <id> or <createdDate>,<id>")
+        @RequestParam(required = false) String after,
+        @Parameter(description = "Page size in cursor mode (maximum 100)", example = "20")
+        @RequestParam(required = false) Integer limit,
+        @Parameter(description = "Ordering for a new cursor scan: id or createdDate", example = "id")
+        @RequestParam(defaultValue = "id") String sort,
+        WebRequest request) {
+        String etag = caseEtagService.listEtag();
+        if (request.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        ResponseEntity<PagedResponse<CaseSummary>> cases = after != null || limit != null
+                ? caseService.fetchCaseListAfter(after, limit != null ? limit : size, sort)
+                : caseService.fetchCaseList(page, size);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(cases.getBody());
+    }
+
+    @Operation(summary = "Search cases",
+               description = "Find cases whose case number, title or description contain the term, "
+                       + "best matches first; items are summaries without the description")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200",
+                    description = "Matching cases retrieved successfully",
+                    content = @Content(mediaType = "application/json"))
+    })
+
+    @GetMapping(value = "/cases/search")
+    public ResponseEntity<PagedResponse<CaseSummary>> searchCases(
+        @Parameter(description = "Search term", required = true, example = "dispute")
+        @RequestParam("q") String query,
         @Parameter(description = "Page number for pagination", example = "0")
-        @RequestParam(defaultValue = "0") int page) {
-        return caseService.fetchCaseList();
+        @RequestParam(defaultValue = "0") int page,
+        @Parameter(description = "Page size (maximum 100)", example = "20")
+        @RequestParam(defaultValue = "20") int size) {
+        return ok(caseSearchService.searchCases(query, page, size));
+    }
+
+    @Operation(summary = "Export all cases",
+               description = "Stream every case as NDJSON or CSV straight from a database cursor, optionally gzipped")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200",
+                    description = "Export streamed successfully",
+                    content = @Content(mediaType = "application/x-ndjson")),
+        @ApiResponse(responseCode = "400",
+                    description = "Unsupported export format",
+                    content = @Content())
+    })
+
+    @GetMapping(value = "/cases/export")
+    public ResponseEntity<StreamingResponseBody> exportCases(
+        @Parameter(description = "Export format: ndjson or csv", example = "ndjson")
+        @RequestParam(defaultValue = "ndjson") String format,
+        @Parameter(description = "Gzip the response body", example = "false")
+        @RequestParam(defaultValue = "false") boolean gzip) {
+        CaseExportFormat exportFormat = CaseExportFormat.fromParameter(format);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"cases." + exportFormat.getFileExtension() + "\"");
+        if (!gzip) {
+            return response.body(out -> caseExportService.exportCases(exportFormat, out));
+        }
+        return response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .body(out -> {
+                    // syncFlush, so the export's periodic flushes push compressed rows to the client as they go
+                    try (GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192, true)) {
+                        caseExportService.exportCases(exportFormat, gzipOut);
+                    }
+                });
     }
 
     @Operation(summary = "Get case by ID", 
@@ -73,17 +168,83 @@ public class CaseController {
                     description = "Case found and returned successfully",
                     content = @Content(mediaType = "application/json", 
                                      schema = @Schema(implementation = Case.class))),
+        @ApiResponse(responseCode = "304",
+                    description = "Case unchanged since the version matching If-None-Match",
+                    content = @Content()),
         @ApiResponse(responseCode = "404", 
                     description = "Case not found",
                     content = @Content())
     })
 
     @GetMapping(value = "/cases/{id}")
-    public ResponseEntity<Case> getCase(
+    public ResponseEntity<ByteBuffer> getCase(
         @Parameter(description = "Unique identifier of the case", required = true, example = "1")
-        @PathVariable("id") String id) {
+        @PathVariable("id") String id,
+        WebRequest request) {
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        // Only conditional requests pay for the version lookup; a match never loads the case
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            String etag = caseEtagService.caseEtag(id);
+            if (etag != null) {
+                etag = CaseEtagService.revalidatedEtag(ifNoneMatch, etag, gzip);
+                if (request.checkNotModified(etag)) {
+                    return notModified(etag);
+                }
+            }
+        }
         Case myCase = caseService.getCaseById(id);
-        return myCase != null ? ResponseEntity.ok(myCase) : ResponseEntity.notFound().build();
+        if (myCase == null) {
+            return ResponseEntity.notFound().build();
+        }
+        // Bytes come pre-serialized from the JSON cache and are written from its buffer; gzip skips compression too
+        String etag = CaseEtagService.caseEtag(myCase);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(gzip ? CaseEtagService.gzipEtag(etag) : etag)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(caseJsonCache.body(myCase, gzip));
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if ("gzip".equalsIgnoreCase(parts[0].trim())) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    @Operation(summary = "Get case by case number",
+               description = "Retrieve the case with the given case number; numbers that were never "
+                       + "stored are rejected from memory without a database query")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200",
+                    description = "Case found",
+                    content = @Content(mediaType = "application/json",
+                                     schema = @Schema(implementation = Case.class))),
+        @ApiResponse(responseCode = "404",
+                    description = "Case not found",
+                    content = @Content())
+    })
+
+    @GetMapping(value = "/cases/by-number/{caseNumber}")
+    public ResponseEntity<Case> getCaseByCaseNumber(
+        @Parameter(description = "Case number", required = true, example = "ABC12345")
+        @PathVariable("caseNumber") String caseNumber) {
+        Case myCase = caseService.getCaseByCaseNumber(caseNumber);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(CaseEtagService.caseEtag(myCase))
+                .body(myCase);
     }
 
     @Operation(summary = "Create a new case", 
@@ -140,22 +301,76 @@ public class CaseController {
     return ResponseEntity.ok(updatedCase);
     }
 
+    @Operation(summary = "Partially update a case",
+               description = "Apply only the supplied fields in a single conditional UPDATE. The case's "
+                       + "ETag in If-Match (or its version in the body) is required, and the change is "
+                       + "rejected if someone else updated it first; If-Match: * applies it unconditionally")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200",
+                    description = "Case updated successfully",
+                    content = @Content(mediaType = "application/json",
+                                     schema = @Schema(implementation = Case.class))),
+        @ApiResponse(responseCode = "404",
+                    description = "Case not found",
+                    content = @Content()),
+        @ApiResponse(responseCode = "409",
+                    description = "Case was modified since the given version, or the case number is taken",
+                    content = @Content()),
+        @ApiResponse(responseCode = "428",
+                    description = "Neither If-Match nor a version was sent",
+                    content = @Content())
+    })
+
+    @PatchMapping(value = "/cases/{id}")
+    public ResponseEntity<Case> patchCase(
+        @Parameter(description = "Unique identifier of the case to update", required = true, example = "1")
+        @PathVariable("id") String id,
+        @Parameter(description = "ETag of the version being changed, or * for any version", example = "\"1-v3\"")
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                description = "Fields to change; omitted or null fields are left as they are",
+                required = true,
+                content = @Content(schema = @Schema(implementation = Case.class)))
+        @RequestBody Case changes) {
+        // Only an explicit If-Match: * may skip the version check; a bare PATCH would silently overwrite newer changes
+        if (ifMatch == null && changes.getVersion() == null) {
+            throw new CasePreconditionRequiredException("Patching case " + id
+                    + " requires its ETag in If-Match, its version in the body, or If-Match: *");
+        }
+        Long expectedVersion = ifMatch != null ? CaseEtagService.expectedVersion(ifMatch, id) : changes.getVersion();
+        Case patchedCase = caseService.patchCase(changes, id, expectedVersion);
+        return ResponseEntity.ok().eTag(CaseEtagService.caseEtag(patchedCase)).body(patchedCase);
+    }
+
     @DeleteMapping(value = "/cases/{id}")
     public ResponseEntity<Void> deleteCase(@PathVariable("id") String id) {
         caseService.deleteCaseById(id);
         return ResponseEntity.noContent().build();
     }
 
-        // Additional endpoint to get available case statuses
-    @GetMapping(value = "/case-statuses")
-    public ResponseEntity<List<CaseStatus>> getCaseStatuses() {
-        return ResponseEntity.ok(Arrays.asList(CaseStatus.values()));
-    }
+    @Operation(summary = "Get cases by status",
+               description = "Retrieve a page of case summaries (without description) for one status, "
+                       + "ordered by id; pass after for keyset paging through large buckets")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200",
+                    description = "Case summaries retrieved successfully",
+                    content = @Content(mediaType = "application/json"))
+    })
 
-    // Additional endpoint to get cases by status
     @GetMapping(value = "/cases/status/{status}")
-    public ResponseEntity<List<Case>> getCasesByStatus(@PathVariable("status") CaseStatus status) {
-        // Still need to implement this in service layer
-        return ResponseEntity.ok().build(); // Placeholder
+    public ResponseEntity<PagedResponse<CaseSummary>> getCasesByStatus(
+        @Parameter(description = "Case status", required = true, example = "OPEN")
+        @PathVariable("status") CaseStatus status,
+        @Parameter(description = "Page number for pagination", example = "0")
+        @RequestParam(defaultValue = "0") int page,
+        @Parameter(description = "Page size (maximum 100)", example = "20")
+        @RequestParam(defaultValue = "20") int size,
+        @Parameter(description = "Id cursor from a previous response")
+        @RequestParam(required = false) String after) {
+        return caseService.getCasesByStatus(status, page, size, after);
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CacheControl.noCache()).eTag(etag).build();
     }
 }
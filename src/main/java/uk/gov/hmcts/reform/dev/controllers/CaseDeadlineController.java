@@ -0,0 +1,76 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import uk.gov.hmcts.reform.dev.deadline.CaseDeadlineService;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.models.CaseSummary;
+import uk.gov.hmcts.reform.dev.models.PagedResponse;
+
+import static org.springframework.http.ResponseEntity.ok;
+
+@RestController
+@Validated
+@Tag(name = "Case Management", description = "APIs for managing cases")
+public class CaseDeadlineController {
+
+    @Autowired private CaseDeadlineService caseDeadlineService;
+
+    @Operation(summary = "Get cases due before a time",
+               description = "Case summaries due strictly before the given time, earliest deadline first, "
+                       + "optionally for one status; pass nextCursor back as after for the next page")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200",
+                    description = "Case summaries retrieved successfully",
+                    content = @Content(mediaType = "application/json")),
+        @ApiResponse(responseCode = "400",
+                    description = "Invalid before time or cursor",
+                    content = @Content())
+    })
+
+    @GetMapping(value = "/cases/due")
+    public ResponseEntity<PagedResponse<CaseSummary>> getCasesDueBefore(
+        @Parameter(description = "Exclusive upper bound on the due date", required = true,
+                   example = "2025-12-31T17:00:00")
+        @RequestParam("before") String before,
+        @Parameter(description = "Only cases in this status", example = "OPEN")
+        @RequestParam(required = false) CaseStatus status,
+        @Parameter(description = "Page size (maximum 100)", example = "20")
+        @RequestParam(defaultValue = "20") int limit,
+        @Parameter(description = "Cursor from a previous response: <dueDate>,<id>")
+        @RequestParam(required = false) String after) {
+        return ok(caseDeadlineService.dueBefore(before, status, limit, after));
+    }
+
+    @Operation(summary = "Get overdue cases",
+               description = "Open and in-progress case summaries (or one given status) whose due date has "
+                       + "passed, earliest deadline first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200",
+                    description = "Case summaries retrieved successfully",
+                    content = @Content(mediaType = "application/json"))
+    })
+
+    @GetMapping(value = "/cases/overdue")
+    public ResponseEntity<PagedResponse<CaseSummary>> getOverdueCases(
+        @Parameter(description = "Only cases in this status (default OPEN and IN_PROGRESS)", example = "OPEN")
+        @RequestParam(required = false) CaseStatus status,
+        @Parameter(description = "Page size (maximum 100)", example = "20")
+        @RequestParam(defaultValue = "20") int limit,
+        @Parameter(description = "Cursor from a previous response: <dueDate>,<id>")
+        @RequestParam(required = false) String after) {
+        return ok(caseDeadlineService.overdue(status, limit, after));
+    }
+}
@@ -0,0 +1,74 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import uk.gov.hmcts.reform.dev.analytics.CaseStatsService;
+import uk.gov.hmcts.reform.dev.models.CaseStats;
+import uk.gov.hmcts.reform.dev.models.CaseStatusCount;
+import uk.gov.hmcts.reform.dev.service.CaseStatusCounters;
+
+import java.util.List;
+
+import static org.springframework.http.ResponseEntity.ok;
+
+@RestController
+@Validated
+@Tag(name = "Case Management", description = "APIs for managing cases")
+public class CaseStatsController {
+
+    @Autowired private CaseStatsService caseStatsService;
+
+    @Autowired private CaseStatusCounters caseStatusCounters;
+
+    @Operation(summary = "Get case statistics",
+               description = "Case counts grouped by any of status, createdDay and dueWeek (weeks start on "
+                       + "Monday), optionally for cases created in [createdFrom, createdTo); answered from an "
+                       + "in-memory columnar read model")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200",
+                    description = "Statistics computed successfully",
+                    content = @Content(mediaType = "application/json",
+                                     schema = @Schema(implementation = CaseStats.class))),
+        @ApiResponse(responseCode = "400",
+                    description = "Unknown groupBy dimension or invalid date",
+                    content = @Content())
+    })
+
+    @GetMapping(value = "/cases/stats")
+    public ResponseEntity<CaseStats> getCaseStats(
+        @Parameter(description = "Comma-separated dimensions: status, createdDay, dueWeek", example = "status,dueWeek")
+        @RequestParam(required = false) String groupBy,
+        @Parameter(description = "Inclusive lower bound on the creation time", example = "2025-01-01T00:00:00")
+        @RequestParam(required = false) String createdFrom,
+        @Parameter(description = "Exclusive upper bound on the creation time", example = "2026-01-01T00:00:00")
+        @RequestParam(required = false) String createdTo) {
+        return ok(caseStatsService.stats(groupBy, createdFrom, createdTo));
+    }
+
+    @Operation(summary = "Get case statuses with counts",
+               description = "Every case status with the number of cases currently in it, from live counters "
+                       + "rather than COUNT queries")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200",
+                    description = "Statuses and counts retrieved successfully",
+                    content = @Content(mediaType = "application/json"))
+    })
+
+    @GetMapping(value = "/case-statuses")
+    public ResponseEntity<List<CaseStatusCount>> getCaseStatuses() {
+        return ResponseEntity.ok(caseStatusCounters.counts());
+    }
+}
@@ -0,0 +1,42 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+/**
+ * Forces read-only transactions on the current thread onto the primary, for reads that must
+ * see the latest committed writes rather than a possibly lagging replica.
+ *
+ * <pre>
+ * try (PrimaryPin.Scope ignored = PrimaryPin.enter()) {
+ *     ...
+ * }
+ * </pre>
+ */
+public final class PrimaryPin {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private PrimaryPin() {
+    }
+
+    public static boolean isPinned() {
+        return Boolean.TRUE.equals(PINNED.get());
+    }
+
+    // Scopes nest: closing one restores whatever the enclosing code had set
+    public static Scope enter() {
+        Boolean previous = PINNED.get();
+        PINNED.set(Boolean.TRUE);
+        return () -> {
+            if (previous == null) {
+                PINNED.remove();
+            } else {
+                PINNED.set(previous);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
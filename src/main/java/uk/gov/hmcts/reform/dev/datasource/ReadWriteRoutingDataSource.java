@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import javax.sql.DataSource;
+
+/**
+ * Sends read-only transactions to the replica pool and everything else, including work done
+ * outside a transaction, to the primary.
+ *
+ * <p>The lookup has to happen after the transaction is marked read-only, so this is wrapped in
+ * a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, which defers
+ * choosing a pool until the first statement runs.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route { PRIMARY, REPLICA }
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !PrimaryPin.isPinned()
+                ? Route.REPLICA
+                : Route.PRIMARY;
+    }
+}
@@ -0,0 +1,86 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Read-your-writes for clients of a replicated database. A request that may write sets a short
+ * lived cookie holding the end of the window; while it is valid the client's reads are pinned
+ * to the primary, so a case it has just created or changed cannot vanish behind replica lag.
+ *
+ * <p>The cookie is set before the request runs, as the response may be committed by the time
+ * the outcome is known; pinning after a failed write only costs a few reads on the primary.
+ */
+@Component
+@ConditionalOnProperty(name = "cases.datasource.replica.enabled", havingValue = "true")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE = "CASES_PRIMARY_UNTIL";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final Duration window;
+
+    public ReadYourWritesFilter(@Value("${cases.datasource.read-your-writes:2s}") Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (window.isZero()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        boolean writing = !SAFE_METHODS.contains(request.getMethod());
+        if (writing) {
+            long until = System.currentTimeMillis() + window.toMillis();
+            response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(COOKIE, Long.toString(until))
+                    .path("/")
+                    .maxAge(Duration.ofSeconds(Math.max(1, window.toSeconds())))
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build()
+                    .toString());
+        }
+
+        if (writing || pinnedUntil(request) > System.currentTimeMillis()) {
+            try (PrimaryPin.Scope ignored = PrimaryPin.enter()) {
+                chain.doFilter(request, response);
+            }
+        } else {
+            chain.doFilter(request, response);
+        }
+    }
+
+    private static long pinnedUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
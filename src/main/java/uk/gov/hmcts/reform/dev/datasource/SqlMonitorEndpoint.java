@@ -0,0 +1,40 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint (GET /sqlmonitor) with the most recent slow statements and likely N+1s
+ * recorded by the {@link StatementMonitor}, and the SQL behind each statement id tagged on the
+ * cases.jdbc.statements timers; DELETE empties both logs.
+ */
+@Endpoint(id = "sqlmonitor")
+public class SqlMonitorEndpoint {
+
+    private final StatementMonitor monitor;
+
+    public SqlMonitorEndpoint(StatementMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    public record Report(long slowThresholdMillis,
+                         List<StatementMonitor.SlowStatement> slowStatements,
+                         List<StatementMonitor.RepeatedStatement> repeatedStatements,
+                         Map<String, String> statements) {
+    }
+
+    @ReadOperation
+    public Report report() {
+        return new Report(monitor.slowThreshold().toMillis(), monitor.slowStatements(), monitor.repeatedStatements(),
+                          monitor.statements());
+    }
+
+    @DeleteOperation
+    public void clear() {
+        monitor.clear();
+    }
+}
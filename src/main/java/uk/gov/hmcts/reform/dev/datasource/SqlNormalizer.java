@@ -0,0 +1,35 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import java.util.regex.Pattern;
+
+/**
+ * Reduces SQL to its shape, so every execution of a statement shares one timer and one
+ * N+1 count whatever its values: string and number literals become {@code ?}, whitespace is
+ * collapsed and an {@code IN} list of any length becomes {@code in (?)}. The shape carries no
+ * case data, so it is also safe to log.
+ */
+public final class SqlNormalizer {
+
+    // Longer statements are cut; their start is enough to tell them apart
+    static final int MAX_LENGTH = 1000;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    // Not part of an identifier such as Hibernate's c1_0 alias
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.?])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin ?\\( ?\\?(?: ?, ?\\?)* ?\\)");
+
+    private SqlNormalizer() {
+    }
+
+    public static String normalize(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+        shape = IN_LIST.matcher(shape).replaceAll("in (?)");
+        return shape.length() > MAX_LENGTH ? shape.substring(0, MAX_LENGTH) : shape;
+    }
+}
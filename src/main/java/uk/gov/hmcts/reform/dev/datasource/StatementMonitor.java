@@ -0,0 +1,259 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every JDBC statement run through the instrumented pools, in place of show-sql.
+ *
+ * <p>Each statement shape ({@link SqlNormalizer}) gets a cases.jdbc.statements timer tagged
+ * with its pool and a short statement id, a hash of the shape that is the same on every
+ * instance and restart, so the SQL text never becomes a metric tag; the id-to-SQL map is
+ * served at the sqlmonitor endpoint. The timer is looked up from a local map so a statement
+ * costs two clock reads, a map hit and a histogram update. Statements at or over the slow
+ * threshold go into a bounded log, and within a request opened with {@link #openScope} a
+ * shape that runs repeatedly is reported as a likely N+1; both logs are served at the same
+ * endpoint. Only statement shapes are kept, never bound values.
+ */
+public class StatementMonitor implements QueryExecutionListener {
+
+    // Timer for statement shapes past the cap, so literal-laden SQL cannot grow the registry without bound
+    static final String OTHER = "other";
+
+    // Leading bytes of the shape's SHA-256 kept as its id; 48 bits leave collisions among a few
+    // hundred shapes vanishingly unlikely
+    private static final int ID_BYTES = 6;
+
+    private static final Logger log = LoggerFactory.getLogger(StatementMonitor.class);
+
+    private final MeterRegistry registry;
+    private final long slowNanos;
+    private final int repeatThreshold;
+    private final int maxStatements;
+    private final Counter slowCount;
+    private final Counter repeatCount;
+
+    private final Map<String, String> shapes = new ConcurrentHashMap<>();
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, String> statements = new ConcurrentHashMap<>();
+    private final RecentLog<SlowStatement> slowStatements;
+    private final RecentLog<RepeatedStatement> repeatedStatements;
+
+    // JDBC calls are synchronous, so before and after run on the same thread with nothing in between
+    private final ThreadLocal<long[]> started = ThreadLocal.withInitial(() -> new long[1]);
+    private final ThreadLocal<RequestStatements> request = new ThreadLocal<>();
+
+    public StatementMonitor(MeterRegistry registry, Duration slowThreshold, int logSize, int repeatThreshold,
+                            int maxStatements) {
+        this.registry = registry;
+        this.slowNanos = slowThreshold.toNanos();
+        this.repeatThreshold = repeatThreshold;
+        this.maxStatements = maxStatements;
+        this.slowStatements = new RecentLog<>(logSize);
+        this.repeatedStatements = new RecentLog<>(logSize);
+        slowCount = Counter.builder("cases.jdbc.slow.statements")
+                .description("Statements that took at least the slow threshold")
+                .register(registry);
+        repeatCount = Counter.builder("cases.jdbc.repeated.statements")
+                .description("Requests that ran one statement shape often enough to suggest an N+1")
+                .register(registry);
+    }
+
+    public record SlowStatement(Instant at, String pool, String sql, long millis, int batchSize, String request) {
+    }
+
+    public record RepeatedStatement(Instant at, String request, String sql, int executions) {
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    public Duration slowThreshold() {
+        return Duration.ofNanos(slowNanos);
+    }
+
+    // Newest first
+    public List<SlowStatement> slowStatements() {
+        return slowStatements.snapshot();
+    }
+
+    // Newest first
+    public List<RepeatedStatement> repeatedStatements() {
+        return repeatedStatements.snapshot();
+    }
+
+    // Statement id tagged on each timer to the SQL shape it stands for, ordered by id
+    public Map<String, String> statements() {
+        return new TreeMap<>(statements);
+    }
+
+    public void clear() {
+        slowStatements.clear();
+        repeatedStatements.clear();
+    }
+
+    /**
+     * Counts statement shapes on this thread until the scope closes, then reports any that ran
+     * at least the repeat threshold times. Scopes nest: closing one restores the enclosing one.
+     */
+    public Scope openScope(String description) {
+        RequestStatements previous = request.get();
+        RequestStatements current = new RequestStatements(description);
+        request.set(current);
+        return () -> {
+            if (previous == null) {
+                request.remove();
+            } else {
+                request.set(previous);
+            }
+            current.counts.forEach((sql, executions) -> {
+                if (executions[0] >= repeatThreshold) {
+                    repeatCount.increment();
+                    repeatedStatements.add(new RepeatedStatement(Instant.now(), description, sql, executions[0]));
+                    log.warn("Statement ran {} times in {}, a likely N+1: {}", executions[0], description, sql);
+                }
+            });
+        };
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        started.get()[0] = System.nanoTime();
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = System.nanoTime() - started.get()[0];
+        // A prepared batch is one query with many parameter sets; a plain batch is rare enough to go by its first
+        String sql = queryInfoList.isEmpty() ? "" : shape(queryInfoList.get(0).getQuery());
+        String pool = execInfo.getDataSourceName();
+        timer(pool, sql).record(elapsed, TimeUnit.NANOSECONDS);
+
+        RequestStatements current = request.get();
+        if (current != null) {
+            current.counts.computeIfAbsent(sql, key -> new int[1])[0]++;
+        }
+        if (elapsed >= slowNanos) {
+            long millis = TimeUnit.NANOSECONDS.toMillis(elapsed);
+            slowCount.increment();
+            slowStatements.add(new SlowStatement(Instant.now(), pool, sql, millis,
+                                                 execInfo.isBatch() ? execInfo.getBatchSize() : 0,
+                                                 current != null ? current.description : null));
+            log.warn("Slow statement on {} took {} ms: {}", pool, millis, sql);
+        }
+    }
+
+    private String shape(String sql) {
+        String shape = shapes.get(sql);
+        if (shape != null) {
+            return shape;
+        }
+        shape = SqlNormalizer.normalize(sql);
+        // Raw SQL with literals in it would otherwise be cached once per distinct value
+        if (shapes.size() < maxStatements * 4) {
+            shapes.put(sql, shape);
+        }
+        return shape;
+    }
+
+    private Timer timer(String pool, String sql) {
+        TimerKey key = new TimerKey(pool, sql);
+        Timer timer = timers.get(key);
+        if (timer != null) {
+            return timer;
+        }
+        if (timers.size() >= maxStatements) {
+            key = new TimerKey(pool, OTHER);
+        }
+        return timers.computeIfAbsent(key, k -> Timer.builder("cases.jdbc.statements")
+                .description("JDBC statement execution time by statement shape")
+                .tag("pool", k.pool() != null ? k.pool() : "unknown")
+                .tag("statement", statementId(k.sql()))
+                .register(registry));
+    }
+
+    private String statementId(String sql) {
+        if (OTHER.equals(sql)) {
+            return OTHER;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(sql.getBytes(StandardCharsets.UTF_8));
+            String id = HexFormat.of().formatHex(digest, 0, ID_BYTES);
+            statements.put(id, sql);
+            return id;
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to provide SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record TimerKey(String pool, String sql) {
+    }
+
+    // Touched only by the request's own thread
+    private static final class RequestStatements {
+
+        private final String description;
+        private final Map<String, int[]> counts = new HashMap<>();
+
+        private RequestStatements(String description) {
+            this.description = description;
+        }
+    }
+
+    // Fixed-size log that drops its oldest entry; entries are rare, so a lock is cheap enough
+    private static final class RecentLog<T> {
+
+        private final int capacity;
+        private final ArrayDeque<T> entries;
+
+        private RecentLog(int capacity) {
+            this.capacity = capacity;
+            this.entries = new ArrayDeque<>(capacity);
+        }
+
+        private synchronized void add(T entry) {
+            if (capacity == 0) {
+                return;
+            }
+            if (entries.size() == capacity) {
+                entries.removeFirst();
+            }
+            entries.addLast(entry);
+        }
+
+        private synchronized List<T> snapshot() {
+            List<T> newestFirst = new ArrayList<>(entries.size());
+            entries.descendingIterator().forEachRemaining(newestFirst::add);
+            return newestFirst;
+        }
+
+        private synchronized void clear() {
+            entries.clear();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Opens a {@link StatementMonitor} scope around each request, so statements repeated within
+ * it are reported as likely N+1s. Work handed to other threads, such as a streamed export,
+ * falls outside the scope.
+ */
+public class StatementScopeFilter extends OncePerRequestFilter {
+
+    private final StatementMonitor monitor;
+
+    public StatementScopeFilter(StatementMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try (StatementMonitor.Scope ignored = monitor.openScope(request.getMethod() + " " + request.getRequestURI())) {
+            chain.doFilter(request, response);
+        }
+    }
+}
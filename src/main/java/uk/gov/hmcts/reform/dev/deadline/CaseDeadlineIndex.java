@@ -0,0 +1,161 @@
+package uk.gov.hmcts.reform.dev.deadline;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.reform.dev.events.CaseChangeBuffer;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.models.CaseSummary;
+import uk.gov.hmcts.reform.dev.service.CaseScanner;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory deadline index: one skip list per status, ordered by due date then id.
+ *
+ * <p>"Due before T" for a set of statuses reads the head of each status's list up to T and
+ * merges them, so a query touches only the rows it returns (plus one per status) however big
+ * the table is, and closed cases never slow down an overdue listing. Built once the
+ * application is ready and then kept current from {@link CaseChangedEvent}s, holding back
+ * those that arrive during the build until it is done; set {@code cases.deadlines.mode=database}
+ * to answer deadline queries from {@code idx_due_date} instead.
+ */
+@Component
+public class CaseDeadlineIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(CaseDeadlineIndex.class);
+
+    private final Map<CaseStatus, ConcurrentSkipListMap<DeadlineKey, CaseSummary>> byStatus =
+            new EnumMap<>(CaseStatus.class);
+    private final Map<Integer, DeadlineKey> keys = new ConcurrentHashMap<>();
+    private final CaseChangeBuffer changes = new CaseChangeBuffer();
+
+    @Autowired
+    private CaseScanner caseScanner;
+
+    @Value("${cases.deadlines.mode:index}")
+    private String mode = "index";
+
+    private volatile boolean ready;
+
+    public CaseDeadlineIndex() {
+        for (CaseStatus status : CaseStatus.values()) {
+            byStatus.put(status, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    public boolean isEnabled() {
+        return "index".equalsIgnoreCase(mode);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!isEnabled()) {
+            log.info("Case deadline index disabled; deadline queries use the database");
+            return;
+        }
+        long start = System.nanoTime();
+        long rows;
+        changes.hold();
+        try {
+            rows = caseScanner.forEachCase(this::index);
+        } finally {
+            changes.replay(this::apply);
+        }
+        ready = true;
+        log.info("Case deadline index built: {} cases in {} ms",
+                 rows, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCaseChanged(CaseChangedEvent event) {
+        if (isEnabled() && !changes.offer(event)) {
+            apply(event);
+        }
+    }
+
+    private void apply(CaseChangedEvent event) {
+        if (event.type() == CaseChangedEvent.ChangeType.DELETED) {
+            remove(event.caseId());
+        } else {
+            index(event.current());
+        }
+    }
+
+    public void index(Case myCase) {
+        if (myCase.getDueDate() == null || myCase.getStatus() == null) {
+            remove(myCase.getId());
+            return;
+        }
+        CaseSummary summary = CaseSummary.of(myCase);
+        DeadlineKey key = new DeadlineKey(summary.dueDate(), summary.id());
+        // compute serialises changes to one case, so its old position is always removed
+        keys.compute(myCase.getId(), (id, previous) -> {
+            if (previous != null) {
+                byStatus.values().forEach(entries -> entries.remove(previous));
+            }
+            byStatus.get(summary.status()).put(key, summary);
+            return key;
+        });
+    }
+
+    public void remove(int caseId) {
+        keys.computeIfPresent(caseId, (id, previous) -> {
+            byStatus.values().forEach(entries -> entries.remove(previous));
+            return null;
+        });
+    }
+
+    /**
+     * Cases in the given statuses due strictly before {@code before}, in deadline order,
+     * starting after {@code after} (or from the earliest when null).
+     */
+    List<CaseSummary> dueBefore(LocalDateTime before, Collection<CaseStatus> statuses, DeadlineKey after,
+                                int limit) {
+        DeadlineKey end = DeadlineKey.before(before);
+        List<CaseSummary> merged = new ArrayList<>();
+        for (CaseStatus status : statuses) {
+            ConcurrentSkipListMap<DeadlineKey, CaseSummary> entries = byStatus.get(status);
+            NavigableMap<DeadlineKey, CaseSummary> window = after == null
+                    ? entries.headMap(end, false)
+                    : after.compareTo(end) < 0 ? entries.subMap(after, false, end, false) : null;
+            if (window == null) {
+                continue;
+            }
+            int taken = 0;
+            for (CaseSummary summary : window.values()) {
+                if (taken++ == limit) {
+                    break;
+                }
+                merged.add(summary);
+            }
+        }
+        merged.sort(Comparator.comparing(CaseSummary::dueDate).thenComparingInt(CaseSummary::id));
+        return merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged;
+    }
+}
@@ -0,0 +1,78 @@
+package uk.gov.hmcts.reform.dev.deadline;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.exception.InvalidRequestParameterException;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.models.CaseSummary;
+import uk.gov.hmcts.reform.dev.models.PagedResponse;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Work-queue listings by due date, answered from {@link CaseDeadlineIndex} once it is built
+ * and from the {@code idx_due_date} queries in {@link CaseRepository} otherwise.
+ */
+@Service
+public class CaseDeadlineService {
+
+    // Cases still being worked on; closed and cancelled cases are never overdue
+    static final Set<CaseStatus> ACTIVE = EnumSet.of(CaseStatus.OPEN, CaseStatus.IN_PROGRESS);
+
+    private static final Sort BY_DUE_DATE = Sort.by("dueDate", "id");
+
+    @Autowired
+    private CaseRepository myCaseRepository;
+
+    @Autowired
+    private CaseDeadlineIndex deadlineIndex;
+
+    @Transactional(readOnly = true)
+    public PagedResponse<CaseSummary> dueBefore(String before, CaseStatus status, int limit, String after) {
+        LocalDateTime deadline;
+        try {
+            deadline = LocalDateTime.parse(before.trim());
+        } catch (DateTimeParseException e) {
+            throw new InvalidRequestParameterException("Invalid before: " + before);
+        }
+        Set<CaseStatus> statuses = status != null ? EnumSet.of(status) : EnumSet.allOf(CaseStatus.class);
+        return page(deadline, statuses, limit, after);
+    }
+
+    @Transactional(readOnly = true)
+    public PagedResponse<CaseSummary> overdue(CaseStatus status, int limit, String after) {
+        return page(LocalDateTime.now(), status != null ? EnumSet.of(status) : ACTIVE, limit, after);
+    }
+
+    private PagedResponse<CaseSummary> page(LocalDateTime before, Set<CaseStatus> statuses, int limit,
+                                            String after) {
+        int pageSize = PagedResponse.clampPageSize(limit);
+        DeadlineKey cursor = after == null || after.isBlank() ? null : DeadlineKey.parse(after);
+
+        List<CaseSummary> rows;
+        if (deadlineIndex.isReady()) {
+            rows = deadlineIndex.dueBefore(before, statuses, cursor, pageSize + 1);
+        } else {
+            Pageable window = PageRequest.of(0, pageSize + 1, BY_DUE_DATE);
+            rows = cursor == null
+                    ? myCaseRepository.findDueBefore(before, statuses, window)
+                    : myCaseRepository.findDueBeforeAfter(before, statuses, cursor.dueDate(), cursor.id(), window);
+        }
+
+        if (rows.size() <= pageSize) {
+            return new PagedResponse<>(rows, pageSize, null);
+        }
+        List<CaseSummary> pageRows = rows.subList(0, pageSize);
+        CaseSummary last = pageRows.get(pageSize - 1);
+        return new PagedResponse<>(pageRows, pageSize, new DeadlineKey(last.dueDate(), last.id()).encode());
+    }
+}
@@ -0,0 +1,44 @@
+package uk.gov.hmcts.reform.dev.deadline;
+
+import uk.gov.hmcts.reform.dev.exception.InvalidRequestParameterException;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+
+/**
+ * Position in deadline order: due date, then id to break ties. Doubles as the keyset cursor
+ * of the deadline listings, encoded as {@code <dueDate>,<id>}.
+ */
+record DeadlineKey(LocalDateTime dueDate, int id) implements Comparable<DeadlineKey> {
+
+    private static final Comparator<DeadlineKey> ORDER =
+            Comparator.comparing(DeadlineKey::dueDate).thenComparingInt(DeadlineKey::id);
+
+    // Sorts before every case due at the given time
+    static DeadlineKey before(LocalDateTime dueDate) {
+        return new DeadlineKey(dueDate, Integer.MIN_VALUE);
+    }
+
+    static DeadlineKey parse(String value) {
+        try {
+            int separator = value.lastIndexOf(',');
+            if (separator < 0) {
+                throw new InvalidRequestParameterException("Invalid cursor: " + value);
+            }
+            return new DeadlineKey(LocalDateTime.parse(value.substring(0, separator).trim()),
+                                   Integer.parseInt(value.substring(separator + 1).trim()));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new InvalidRequestParameterException("Invalid cursor: " + value);
+        }
+    }
+
+    String encode() {
+        return dueDate + "," + id;
+    }
+
+    @Override
+    public int compareTo(DeadlineKey other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,55 @@
+package uk.gov.hmcts.reform.dev.events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Holds back {@link CaseChangedEvent}s while an in-memory view is rebuilt from a table scan
+ * and replays them once the scan is done. Applied straight away, a change committed mid-scan
+ * could be overwritten by the older copy of the row the scan reads afterwards, bringing back
+ * a deleted case or keeping an old status; replayed after the scan, the later write wins.
+ *
+ * <pre>
+ * changes.hold();
+ * try {
+ *     caseScanner.forEachCase(this::index);
+ * } finally {
+ *     changes.replay(this::apply);
+ * }
+ * </pre>
+ */
+public class CaseChangeBuffer {
+
+    // Events held since hold(), in arrival order; null when nothing is being rebuilt
+    private List<CaseChangedEvent> held;
+
+    public synchronized void hold() {
+        if (held == null) {
+            held = new ArrayList<>();
+        }
+    }
+
+    // True if the event was held for replay; false means the caller applies it now
+    public synchronized boolean offer(CaseChangedEvent event) {
+        if (held == null) {
+            return false;
+        }
+        held.add(event);
+        return true;
+    }
+
+    /**
+     * Applies the held events in arrival order and stops holding. An event offered meanwhile
+     * waits for the lock, so it is applied after the replayed ones.
+     */
+    public synchronized int replay(Consumer<CaseChangedEvent> apply) {
+        if (held == null) {
+            return 0;
+        }
+        List<CaseChangedEvent> events = held;
+        held = null;
+        events.forEach(apply);
+        return events.size();
+    }
+}
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.dev.events;
+
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+
+/**
+ * Published by the service write paths once a case has been stored or removed. In-memory
+ * views of the cases table listen for it (after commit) to stay in sync without re-reading.
+ *
+ * @param current the case as stored; {@code null} for deletions
+ * @param previousStatus the status the case had before an update or deletion; {@code null} for
+ *                       creations, or when the writer could not tell
+ */
+public record CaseChangedEvent(ChangeType type, int caseId, Case current, CaseStatus previousStatus) {
+
+    public enum ChangeType { CREATED, UPDATED, DELETED }
+
+    public static CaseChangedEvent created(Case myCase) {
+        return new CaseChangedEvent(ChangeType.CREATED, myCase.getId(), myCase, null);
+    }
+
+    public static CaseChangedEvent updated(Case myCase, CaseStatus previousStatus) {
+        return new CaseChangedEvent(ChangeType.UPDATED, myCase.getId(), myCase, previousStatus);
+    }
+
+    public static CaseChangedEvent deleted(int caseId, CaseStatus previousStatus) {
+        return new CaseChangedEvent(ChangeType.DELETED, caseId, null, previousStatus);
+    }
+}
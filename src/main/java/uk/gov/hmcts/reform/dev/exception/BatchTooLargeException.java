@@ -0,0 +1,7 @@
+package uk.gov.hmcts.reform.dev.exception;
+
+public class BatchTooLargeException extends RuntimeException {
+    public BatchTooLargeException(String message) {
+        super(message);
+    }
+}
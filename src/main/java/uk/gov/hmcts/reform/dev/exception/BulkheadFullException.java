@@ -0,0 +1,7 @@
+package uk.gov.hmcts.reform.dev.exception;
+
+public class BulkheadFullException extends RuntimeException {
+    public BulkheadFullException(String message) {
+        super(message);
+    }
+}
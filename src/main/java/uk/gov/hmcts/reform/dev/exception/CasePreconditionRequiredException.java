@@ -0,0 +1,7 @@
+package uk.gov.hmcts.reform.dev.exception;
+
+public class CasePreconditionRequiredException extends RuntimeException {
+    public CasePreconditionRequiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package uk.gov.hmcts.reform.dev.exception;
+
+public class CaseQueueFullException extends RuntimeException {
+    public CaseQueueFullException(String message) {
+        super(message);
+    }
+}
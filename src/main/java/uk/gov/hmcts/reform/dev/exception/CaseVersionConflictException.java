@@ -0,0 +1,7 @@
+package uk.gov.hmcts.reform.dev.exception;
+
+public class CaseVersionConflictException extends RuntimeException {
+    public CaseVersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.dev.exception;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+// A data integrity violation caught before the insert, so callers handling either see a duplicate
+public class DuplicateCaseNumberException extends DataIntegrityViolationException {
+    public DuplicateCaseNumberException(String message) {
+        super(message);
+    }
+}
@@ -1,5 +1,7 @@
 package uk.gov.hmcts.reform.dev.exception;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -8,6 +10,8 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import uk.gov.hmcts.reform.dev.metrics.CaseMetrics;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -16,10 +20,15 @@ import java.util.stream.Collectors;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+        @Autowired
+        private CaseMetrics caseMetrics;
+
         @ExceptionHandler(MethodArgumentNotValidException.class)
         public ResponseEntity<ErrorResponse> handleValidationException(
                         MethodArgumentNotValidException ex, WebRequest request) {
 
+                caseMetrics.invalidField();
+
                 List<String> errors = ex.getBindingResult()
                                 .getFieldErrors()
                                 .stream()
@@ -42,6 +51,8 @@ public class GlobalExceptionHandler {
         public ResponseEntity<ErrorResponse> handleCaseNotFoundException(
                         CaseNotFoundException ex, WebRequest request) {
 
+                caseMetrics.caseNotFound();
+
                 ErrorResponse errorResponse = ErrorResponse.builder()
                                 .timestamp(LocalDateTime.now())
                                 .status(HttpStatus.NOT_FOUND.value())
@@ -53,6 +64,149 @@ public class GlobalExceptionHandler {
                 return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
         }
 
+        @ExceptionHandler(InvalidPageRequestException.class)
+        public ResponseEntity<ErrorResponse> handleInvalidPageRequestException(
+                        InvalidPageRequestException ex, WebRequest request) {
+
+                ErrorResponse errorResponse = ErrorResponse.builder()
+                                .timestamp(LocalDateTime.now())
+                                .status(HttpStatus.BAD_REQUEST.value())
+                                .error("Invalid Page Request")
+                                .message(ex.getMessage())
+                                .path(request.getDescription(false).replace("uri=", ""))
+                                .build();
+
+                return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        }
+
+        @ExceptionHandler(InvalidRequestParameterException.class)
+        public ResponseEntity<ErrorResponse> handleInvalidRequestParameterException(
+                        InvalidRequestParameterException ex, WebRequest request) {
+
+                ErrorResponse errorResponse = ErrorResponse.builder()
+                                .timestamp(LocalDateTime.now())
+                                .status(HttpStatus.BAD_REQUEST.value())
+                                .error("Invalid Parameter")
+                                .message(ex.getMessage())
+                                .path(request.getDescription(false).replace("uri=", ""))
+                                .build();
+
+                return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        }
+
+        @ExceptionHandler(UnsupportedExportFormatException.class)
+        public ResponseEntity<ErrorResponse> handleUnsupportedExportFormatException(
+                        UnsupportedExportFormatException ex, WebRequest request) {
+
+                ErrorResponse errorResponse = ErrorResponse.builder()
+                                .timestamp(LocalDateTime.now())
+                                .status(HttpStatus.BAD_REQUEST.value())
+                                .error("Unsupported Export Format")
+                                .message(ex.getMessage())
+                                .path(request.getDescription(false).replace("uri=", ""))
+                                .build();
+
+                return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        }
+
+        @ExceptionHandler(BatchTooLargeException.class)
+        public ResponseEntity<ErrorResponse> handleBatchTooLargeException(
+                        BatchTooLargeException ex, WebRequest request) {
+
+                ErrorResponse errorResponse = ErrorResponse.builder()
+                                .timestamp(LocalDateTime.now())
+                                .status(HttpStatus.PAYLOAD_TOO_LARGE.value())
+                                .error("Batch Too Large")
+                                .message(ex.getMessage())
+                                .path(request.getDescription(false).replace("uri=", ""))
+                                .build();
+
+                return new ResponseEntity<>(errorResponse, HttpStatus.PAYLOAD_TOO_LARGE);
+        }
+
+        @ExceptionHandler({ CaseVersionConflictException.class, OptimisticLockingFailureException.class })
+        public ResponseEntity<ErrorResponse> handleVersionConflict(
+                        RuntimeException ex, WebRequest request) {
+
+                String message = ex instanceof CaseVersionConflictException
+                                ? ex.getMessage()
+                                : "Case was modified by another request";
+
+                ErrorResponse errorResponse = ErrorResponse.builder()
+                                .timestamp(LocalDateTime.now())
+                                .status(HttpStatus.CONFLICT.value())
+                                .error("Version Conflict")
+                                .message(message)
+                                .path(request.getDescription(false).replace("uri=", ""))
+                                .build();
+
+                return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+        }
+
+        @ExceptionHandler(CasePreconditionRequiredException.class)
+        public ResponseEntity<ErrorResponse> handlePreconditionRequired(
+                        CasePreconditionRequiredException ex, WebRequest request) {
+
+                ErrorResponse errorResponse = ErrorResponse.builder()
+                                .timestamp(LocalDateTime.now())
+                                .status(HttpStatus.PRECONDITION_REQUIRED.value())
+                                .error("Precondition Required")
+                                .message(ex.getMessage())
+                                .path(request.getDescription(false).replace("uri=", ""))
+                                .build();
+
+                return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_REQUIRED);
+        }
+
+        @ExceptionHandler(CaseQueueFullException.class)
+        public ResponseEntity<ErrorResponse> handleCaseQueueFullException(
+                        CaseQueueFullException ex, WebRequest request) {
+
+                ErrorResponse errorResponse = ErrorResponse.builder()
+                                .timestamp(LocalDateTime.now())
+                                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                                .error("Too Many Requests")
+                                .message(ex.getMessage())
+                                .path(request.getDescription(false).replace("uri=", ""))
+                                .build();
+
+                HttpHeaders headers = new HttpHeaders();
+                headers.set(HttpHeaders.RETRY_AFTER, "1");
+                return new ResponseEntity<>(errorResponse, headers, HttpStatus.TOO_MANY_REQUESTS);
+        }
+
+        @ExceptionHandler(BulkheadFullException.class)
+        public ResponseEntity<ErrorResponse> handleBulkheadFullException(
+                        BulkheadFullException ex, WebRequest request) {
+
+                ErrorResponse errorResponse = ErrorResponse.builder()
+                                .timestamp(LocalDateTime.now())
+                                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                                .error("Service Unavailable")
+                                .message(ex.getMessage())
+                                .path(request.getDescription(false).replace("uri=", ""))
+                                .build();
+
+                HttpHeaders headers = new HttpHeaders();
+                headers.set(HttpHeaders.RETRY_AFTER, "1");
+                return new ResponseEntity<>(errorResponse, headers, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        @ExceptionHandler(DuplicateCaseNumberException.class)
+        public ResponseEntity<ErrorResponse> handleDuplicateCaseNumber(
+                        DuplicateCaseNumberException ex, WebRequest request) {
+
+                ErrorResponse errorResponse = ErrorResponse.builder()
+                                .timestamp(LocalDateTime.now())
+                                .status(HttpStatus.CONFLICT.value())
+                                .error("Data Integrity Violation")
+                                .message("Case number already exists")
+                                .path(request.getDescription(false).replace("uri=", ""))
+                                .build();
+
+                return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+        }
+
         @ExceptionHandler(DataIntegrityViolationException.class)
         public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(
                         DataIntegrityViolationException ex, WebRequest request) {
@@ -92,6 +246,8 @@ public class GlobalExceptionHandler {
         public ResponseEntity<ErrorResponse> handleInvalidEnum(
                         HttpMessageNotReadableException ex, WebRequest request) {
 
+                caseMetrics.unreadableBody();
+
                 ErrorResponse errorResponse = ErrorResponse.builder()
                                 .timestamp(LocalDateTime.now())
                                 .status(HttpStatus.BAD_REQUEST.value())
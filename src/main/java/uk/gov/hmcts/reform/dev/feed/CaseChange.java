@@ -0,0 +1,17 @@
+package uk.gov.hmcts.reform.dev.feed;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent.ChangeType;
+import uk.gov.hmcts.reform.dev.models.CaseSummary;
+
+@Schema(description = "One committed change to a case, as sent on the change feed")
+public record CaseChange(
+        @Schema(description = "Position in the feed; also the event id to send back as Last-Event-ID", example = "42")
+        long sequence,
+        @Schema(description = "What happened to the case", example = "UPDATED")
+        ChangeType type,
+        @Schema(description = "Identifier of the case that changed", example = "1")
+        int caseId,
+        @Schema(description = "The case as committed; absent for deletes")
+        CaseSummary current) {
+}
@@ -0,0 +1,189 @@
+package uk.gov.hmcts.reform.dev.feed;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Server-Sent Events feed of committed case changes, for clients that would otherwise poll
+ * GET /cases to notice them.
+ *
+ * <p>Every change is appended to a {@link CaseChangeLog} after its transaction commits, and
+ * each subscriber keeps its own position in that log. An append only flags the subscribers
+ * as behind: the sending happens on virtual threads, one drain at a time per subscriber, so
+ * a writer never waits on a client and an idle subscriber holds no thread at all, only its
+ * async request. A client that reconnects with {@code Last-Event-ID} picks up where it left
+ * off; if the changes it missed have already left the log it is sent a {@code reset} event
+ * and should reload its list before carrying on.
+ *
+ * <p>The feed covers writes made through this instance only.
+ */
+@Component
+public class CaseChangeFeed {
+
+    static final String RESET_EVENT = "reset";
+
+    // Changes sent per read of the log, so one busy subscriber does not copy the whole ring at once
+    private static final int DRAIN_BATCH = 256;
+
+    private final CaseChangeLog log;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("case-change-heartbeat").daemon().factory());
+    private final long timeoutMillis;
+
+    public CaseChangeFeed(MeterRegistry registry,
+                          @Value("${cases.change-feed.capacity:10000}") int capacity,
+                          @Value("${cases.change-feed.timeout:30m}") Duration timeout,
+                          @Value("${cases.change-feed.heartbeat:15s}") Duration heartbeat) {
+        // Start numbering from the clock so ids from before a restart are recognised as stale, not reused
+        this.log = new CaseChangeLog(capacity, TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis()));
+        this.timeoutMillis = timeout.toMillis();
+        heartbeats.scheduleAtFixedRate(this::sendHeartbeats, heartbeat.toMillis(), heartbeat.toMillis(),
+                                       TimeUnit.MILLISECONDS);
+
+        Gauge.builder("cases.change.feed.subscribers", subscribers, Set::size)
+                .description("Clients connected to the case change feed")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        heartbeats.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdownNow();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCaseChanged(CaseChangedEvent event) {
+        log.append(event);
+        subscribers.forEach(this::schedule);
+    }
+
+    /**
+     * Opens a subscription. Without {@code lastEventId} it starts with the next change; with
+     * one it first replays everything after that event.
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, startingPoint(lastEventId));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscribers.remove(subscriber));
+
+        // Queued until the response starts; commits the headers so the client sees the stream open
+        try {
+            emitter.send(SseEmitter.event().comment("subscribed"));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            return emitter;
+        }
+        subscribers.add(subscriber);
+        schedule(subscriber);
+        return emitter;
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    // An id the log cannot parse is treated as stale: the subscriber starts with a reset
+    private long startingPoint(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return log.lastSequence();
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            while (true) {
+                List<CaseChange> changes = log.after(subscriber.position, DRAIN_BATCH);
+                if (changes == null) {
+                    long last = log.lastSequence();
+                    subscriber.emitter.send(SseEmitter.event().id(String.valueOf(last)).name(RESET_EVENT).data(""));
+                    subscriber.position = last;
+                    continue;
+                }
+                if (changes.isEmpty()) {
+                    break;
+                }
+                for (CaseChange change : changes) {
+                    subscriber.emitter.send(SseEmitter.event()
+                            .id(String.valueOf(change.sequence()))
+                            .data(change, MediaType.APPLICATION_JSON));
+                    subscriber.position = change.sequence();
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The client has gone or the emitter has completed
+            drop(subscriber, e);
+            return;
+        }
+        subscriber.draining.set(false);
+        // A change appended after the last read saw this subscriber still draining, so nobody scheduled it
+        if (log.lastSequence() > subscriber.position) {
+            schedule(subscriber);
+        }
+    }
+
+    // Comments are ignored by EventSource but keep proxies from closing an idle stream and expose dead clients
+    private void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            senders.execute(() -> {
+                try {
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    drop(subscriber, e);
+                }
+            });
+        }
+    }
+
+    private void drop(Subscriber subscriber, Exception cause) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.emitter.completeWithError(cause);
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // Sequence of the last change sent; written only by the drain that holds the draining flag
+        private volatile long position;
+
+        private Subscriber(SseEmitter emitter, long position) {
+            this.emitter = emitter;
+            this.position = position;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package uk.gov.hmcts.reform.dev.feed;
+
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.models.CaseSummary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size ring of the most recent case changes, numbered by a sequence that only goes up.
+ *
+ * <p>Appends are serialised; reads take no lock. A reader trusts a slot only if it still
+ * holds the sequence it asked for, so a reader that has been lapped by the writer learns
+ * that it missed changes instead of silently skipping them.
+ */
+public class CaseChangeLog {
+
+    private final AtomicReferenceArray<CaseChange> slots;
+    private final long firstSequence;
+    private volatile long lastSequence;
+
+    // Sequences carry on from firstSequence - 1, so ids handed out before a restart fall outside the log
+    public CaseChangeLog(int capacity, long firstSequence) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.firstSequence = firstSequence;
+        this.lastSequence = firstSequence - 1;
+    }
+
+    public synchronized CaseChange append(CaseChangedEvent event) {
+        long sequence = lastSequence + 1;
+        CaseSummary current = event.current() != null ? CaseSummary.of(event.current()) : null;
+        CaseChange change = new CaseChange(sequence, event.type(), event.caseId(), current);
+        slots.set(slot(sequence), change);
+        lastSequence = sequence;
+        return change;
+    }
+
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Up to {@code limit} changes after the given sequence, oldest first; empty when the
+     * reader is up to date, and {@code null} when some of the changes it needs have already
+     * been overwritten (or the sequence was never issued by this log).
+     */
+    public List<CaseChange> after(long sequence, int limit) {
+        long last = lastSequence;
+        if (sequence > last || sequence < firstSequence - 1) {
+            return null;
+        }
+        long end = Math.min(last, sequence + limit);
+        List<CaseChange> changes = new ArrayList<>((int) (end - sequence));
+        for (long next = sequence + 1; next <= end; next++) {
+            CaseChange change = slots.get(slot(next));
+            if (change == null || change.sequence() != next) {
+                return null;
+            }
+            changes.add(change);
+        }
+        return changes;
+    }
+
+    private int slot(long sequence) {
+        return (int) Math.floorMod(sequence, (long) slots.length());
+    }
+}
@@ -0,0 +1,48 @@
+package uk.gov.hmcts.reform.dev.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Application counters that the framework does not record for us. Each counter is registered
+ * once up front, so incrementing it on the request path is a single striped add with no
+ * registry lookup or tag allocation.
+ *
+ * <p>Request latency (http.server.requests), repository timings
+ * (spring.data.repository.invocations), Hikari pool gauges (hikaricp.*) and case cache hits
+ * and misses (cache.gets) are all published by Spring Boot's actuator auto-configuration.
+ */
+@Component
+public class CaseMetrics {
+
+    private final Counter notFound;
+    private final Counter invalidFields;
+    private final Counter unreadableBodies;
+
+    public CaseMetrics(MeterRegistry registry) {
+        notFound = Counter.builder("cases.not.found")
+                .description("Requests for a case that does not exist")
+                .register(registry);
+        invalidFields = Counter.builder("cases.validation.failures")
+                .description("Requests rejected by input validation")
+                .tag("reason", "invalid_field")
+                .register(registry);
+        unreadableBodies = Counter.builder("cases.validation.failures")
+                .description("Requests rejected by input validation")
+                .tag("reason", "unreadable_body")
+                .register(registry);
+    }
+
+    public void caseNotFound() {
+        notFound.increment();
+    }
+
+    public void invalidField() {
+        invalidFields.increment();
+    }
+
+    public void unreadableBody() {
+        unreadableBodies.increment();
+    }
+}
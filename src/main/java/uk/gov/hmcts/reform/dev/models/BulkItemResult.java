@@ -0,0 +1,34 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "Result for one item of a bulk request")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemResult {
+
+    @Schema(description = "Position of the item in the request", example = "0")
+    private Integer index;
+
+    @Schema(description = "Identifier of the affected case", example = "1")
+    private Integer id;
+
+    @Schema(description = "Case number of the item", example = "ABC12345")
+    private String caseNumber;
+
+    @Schema(description = "What happened to the item", example = "CREATED")
+    private BulkOutcome outcome;
+
+    @Schema(description = "Reasons the item was rejected")
+    private List<String> errors;
+}
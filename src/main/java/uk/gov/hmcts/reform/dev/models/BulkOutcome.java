@@ -0,0 +1,35 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of a single item in a bulk operation")
+public enum BulkOutcome {
+
+    @Schema(description = "Case was created")
+    CREATED,
+
+    @Schema(description = "Case was updated")
+    UPDATED,
+
+    @Schema(description = "Case already had the requested value, so nothing was written")
+    UNCHANGED,
+
+    @Schema(description = "Case was deleted")
+    DELETED,
+
+    @Schema(description = "No case exists with the given ID")
+    NOT_FOUND,
+
+    @Schema(description = "Case number already exists, or appears earlier in the same request")
+    DUPLICATE,
+
+    @Schema(description = "Case failed validation")
+    INVALID,
+
+    @Schema(description = "Case could not be stored")
+    FAILED;
+
+    public boolean isSuccess() {
+        return this == CREATED || this == UPDATED || this == UNCHANGED || this == DELETED;
+    }
+}
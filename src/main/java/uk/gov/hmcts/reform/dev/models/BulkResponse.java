@@ -0,0 +1,26 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "Per-item results of a bulk request")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkResponse {
+
+    @Schema(description = "Number of items that succeeded", example = "98")
+    private int succeeded;
+
+    @Schema(description = "Number of items that were rejected or failed", example = "2")
+    private int failed;
+
+    @Schema(description = "One result per item, in request order")
+    private List<BulkItemResult> results;
+}
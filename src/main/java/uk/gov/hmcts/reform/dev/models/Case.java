@@ -7,6 +7,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import uk.gov.hmcts.reform.dev.config.HibernateCacheConfig;
 
 // OpenAPI/Swagger imports
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -19,14 +22,21 @@ import io.swagger.v3.oas.annotations.media.Schema;
 @Entity
 @Table(name = "cases", indexes = {
                 @Index(name = "idx_case_number", columnList = "caseNumber"),
-                @Index(name = "idx_status", columnList = "status"),
-                @Index(name = "idx_created_date", columnList = "createdDate")
+                @Index(name = "idx_status", columnList = "status, id"),
+                @Index(name = "idx_created_date", columnList = "createdDate, id"),
+                @Index(name = "idx_updated_date", columnList = "updatedDate"),
+                @Index(name = "idx_due_date", columnList = "dueDate, id")
 })
+// Second-level cache: repository lookups by id are answered without a query until the case changes
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.CASE_REGION)
 public class Case {
 
         @Schema(description = "Unique identifier for the case", example = "1", accessMode = Schema.AccessMode.READ_ONLY)
         @Id
-        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        // Pooled sequence rather than IDENTITY, so Hibernate can batch inserts
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "case_seq")
+        @SequenceGenerator(name = "case_seq", sequenceName = "case_seq", allocationSize = 50)
         private int id;
 
         @Schema(description = "Unique case number identifier", example = "ABC12345", required = true, maxLength = 50)
@@ -67,6 +77,11 @@ public class Case {
         @Column(name = "updated_date")
         private LocalDateTime updatedDate;
 
+        @Schema(description = "Optimistic lock version, incremented on every update; send it back (or the ETag in If-Match) with a PATCH to detect conflicting writes", example = "3", accessMode = Schema.AccessMode.READ_ONLY)
+        @Version
+        @Column(nullable = false)
+        private Long version;
+
         @PrePersist
         protected void onCreate() {
                 createdDate = LocalDateTime.now();
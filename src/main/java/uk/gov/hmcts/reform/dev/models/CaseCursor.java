@@ -0,0 +1,42 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import uk.gov.hmcts.reform.dev.exception.InvalidPageRequestException;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Keyset position in the case list. Encoded as {@code <id>} when ordering by id,
+ * or {@code <createdDate>,<id>} when ordering by creation date.
+ */
+public record CaseCursor(LocalDateTime createdDate, int id) {
+
+    public static CaseCursor afterId(int id) {
+        return new CaseCursor(null, id);
+    }
+
+    public static CaseCursor afterCreatedDate(LocalDateTime createdDate, int id) {
+        return new CaseCursor(createdDate, id);
+    }
+
+    public static CaseCursor parse(String value) {
+        try {
+            int separator = value.lastIndexOf(',');
+            if (separator < 0) {
+                return afterId(Integer.parseInt(value.trim()));
+            }
+            return afterCreatedDate(LocalDateTime.parse(value.substring(0, separator).trim()),
+                                    Integer.parseInt(value.substring(separator + 1).trim()));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new InvalidPageRequestException("Invalid cursor: " + value);
+        }
+    }
+
+    public boolean isByCreatedDate() {
+        return createdDate != null;
+    }
+
+    public String encode() {
+        return isByCreatedDate() ? createdDate + "," + id : String.valueOf(id);
+    }
+}
@@ -0,0 +1,35 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import uk.gov.hmcts.reform.dev.exception.UnsupportedExportFormatException;
+
+public enum CaseExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String fileExtension;
+
+    CaseExportFormat(String mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    public static CaseExportFormat fromParameter(String value) {
+        for (CaseExportFormat format : values()) {
+            if (format.fileExtension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new UnsupportedExportFormatException("Unsupported export format: " + value);
+    }
+}
@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row count and latest update time of the cases table; any insert, update or delete changes
+ * at least one of them, so together they identify a version of every list page.
+ */
+public record CaseListVersion(Long count, LocalDateTime lastModified) {
+}
@@ -0,0 +1,13 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Case counts, in total and per group")
+public record CaseStats(
+        @Schema(description = "Cases matched, across all groups", example = "1250")
+        long total,
+        @Schema(description = "One entry per combination of the grouped values present, in status, day, week order")
+        List<CaseStatsGroup> groups) {
+}
@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+@Schema(description = "Number of cases sharing the grouped values; dimensions that were not grouped are omitted")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CaseStatsGroup(
+        @Schema(description = "Case status, when grouped by status", example = "OPEN")
+        CaseStatus status,
+        @Schema(description = "Day the cases were created, when grouped by createdDay", example = "2025-03-14")
+        LocalDate createdDay,
+        @Schema(description = "Monday of the week the cases are due, when grouped by dueWeek", example = "2025-03-10")
+        LocalDate dueWeek,
+        @Schema(description = "Number of cases in the group", example = "42")
+        long count) {
+}
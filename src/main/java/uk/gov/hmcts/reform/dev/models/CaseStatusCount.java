@@ -0,0 +1,11 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "A case status with the number of cases currently in it")
+public record CaseStatusCount(
+        @Schema(description = "Case status", example = "OPEN")
+        CaseStatus status,
+        @Schema(description = "Number of cases in this status", example = "42")
+        long count) {
+}
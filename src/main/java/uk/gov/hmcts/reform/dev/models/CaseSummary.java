@@ -0,0 +1,28 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Read-only view of a case for list screens; omits the description")
+public record CaseSummary(
+        @Schema(description = "Unique identifier for the case", example = "1")
+        int id,
+        @Schema(description = "Unique case number identifier", example = "ABC12345")
+        String caseNumber,
+        @Schema(description = "Title or name of the case", example = "Contract Dispute Resolution")
+        String title,
+        @Schema(description = "Current status of the case", example = "OPEN")
+        CaseStatus status,
+        @Schema(description = "Date and time when the case is due for completion", example = "2024-12-31T17:00:00")
+        LocalDateTime dueDate,
+        @Schema(description = "Date and time when the case was created", example = "2024-01-15T10:30:00")
+        LocalDateTime createdDate,
+        @Schema(description = "Date and time when the case was last updated", example = "2024-01-16T14:45:00")
+        LocalDateTime updatedDate) {
+
+    public static CaseSummary of(Case myCase) {
+        return new CaseSummary(myCase.getId(), myCase.getCaseNumber(), myCase.getTitle(), myCase.getStatus(),
+                               myCase.getDueDate(), myCase.getCreatedDate(), myCase.getUpdatedDate());
+    }
+}
@@ -3,11 +3,15 @@ package uk.gov.hmcts.reform.dev.models;
 import java.util.List;
 
 public class PagedResponse<T> {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
     private List<T> content;
     private int page;
     private int size;
     private long totalElements;
     private int totalPages;
+    private String nextCursor;
 
     // Constructors
     public PagedResponse() {}
@@ -20,19 +24,35 @@ public class PagedResponse<T> {
         this.totalPages = (int) Math.ceil((double) totalElements / size);
     }
 
+    // Cursor (keyset) page: totals are not computed, so they are reported as -1
+    public PagedResponse(List<T> content, int size, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.totalElements = -1;
+        this.totalPages = -1;
+        this.nextCursor = nextCursor;
+    }
+
+    public static int clampPageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
     // Getters and setters
     public List<T> getContent() { return content; }
     public void setContent(List<T> content) { this.content = content; }
-    
+
     public int getPage() { return page; }
     public void setPage(int page) { this.page = page; }
-    
+
     public int getSize() { return size; }
     public void setSize(int size) { this.size = size; }
-    
+
     public long getTotalElements() { return totalElements; }
     public void setTotalElements(long totalElements) { this.totalElements = totalElements; }
-    
+
     public int getTotalPages() { return totalPages; }
     public void setTotalPages(int totalPages) { this.totalPages = totalPages; }
-}
\ No newline at end of file
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "Move a set of cases to one status")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatusTransitionRequest {
+
+    @Schema(description = "Identifiers of the cases to move", example = "[1, 2, 3]",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "At least one case ID is required")
+    private List<Integer> ids;
+
+    @Schema(description = "Status to move the cases to", example = "CLOSED",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "Status is required")
+    private CaseStatus status;
+}
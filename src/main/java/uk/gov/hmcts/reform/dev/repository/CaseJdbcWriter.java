@@ -0,0 +1,116 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.config.HibernateCacheConfig;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Set-based writes to the cases table, run as plain SQL on the current transaction's connection.
+ *
+ * <p>After a JPQL bulk UPDATE or DELETE on Case, Hibernate cannot tell which rows changed and so
+ * clears the whole case-entities region. These statements name their rows, so only those cases
+ * are evicted from the second-level cache, together with the status query results they may
+ * change. Eviction happens straight after the statement, so a read later in the same
+ * transaction goes to the database, and again once the transaction completes, so a read that
+ * raced the commit cannot leave the old row cached.
+ *
+ * <p>Like a {@code @Modifying(flushAutomatically = true, clearAutomatically = true)} query, each
+ * statement flushes pending entity changes first and clears the persistence context after. Must
+ * be called inside a transaction.
+ */
+@Repository
+public class CaseJdbcWriter {
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Partial update in one statement: null arguments leave the column as it is, and a non-null
+     * expectedVersion makes the update conditional on nobody else having changed the case.
+     * Returns the number of rows updated, 0 or 1.
+     */
+    public int patch(int id, Long expectedVersion, String caseNumber, String title, String description,
+                     CaseStatus status, LocalDateTime dueDate, LocalDateTime updatedDate) {
+        // Typed, so a null still tells the database what the COALESCE compares
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("caseNumber", caseNumber, Types.VARCHAR)
+                .addValue("title", title, Types.VARCHAR)
+                .addValue("description", description, Types.VARCHAR)
+                .addValue("status", status != null ? status.name() : null, Types.VARCHAR)
+                .addValue("dueDate", dueDate, Types.TIMESTAMP)
+                .addValue("updatedDate", updatedDate, Types.TIMESTAMP);
+        String sql = "UPDATE cases SET "
+                + "case_number = COALESCE(:caseNumber, case_number), "
+                + "title = COALESCE(:title, title), "
+                + "description = COALESCE(:description, description), "
+                + "status = COALESCE(:status, status), "
+                + "due_date = COALESCE(:dueDate, due_date), "
+                + "updated_date = :updatedDate, "
+                + "version = version + 1 "
+                + "WHERE id = :id";
+        if (expectedVersion != null) {
+            sql += " AND version = :expectedVersion";
+            parameters.addValue("expectedVersion", expectedVersion);
+        }
+        return execute(sql, parameters, List.of(id));
+    }
+
+    // Status change for one bulk chunk; rows already in the status are left alone
+    public int updateStatusByIdIn(Collection<Integer> ids, CaseStatus status, LocalDateTime updatedDate) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("status", status.name())
+                .addValue("updatedDate", updatedDate, Types.TIMESTAMP);
+        return execute("UPDATE cases SET status = :status, updated_date = :updatedDate, version = version + 1 "
+                + "WHERE id IN (:ids) AND status <> :status", parameters, ids);
+    }
+
+    public int deleteByIdIn(Collection<Integer> ids) {
+        return execute("DELETE FROM cases WHERE id IN (:ids)", new MapSqlParameterSource("ids", ids), ids);
+    }
+
+    private int execute(String sql, MapSqlParameterSource parameters, Collection<Integer> ids) {
+        entityManager.flush();
+        int rows = jdbcTemplate.update(sql, parameters);
+        entityManager.clear();
+        if (rows > 0) {
+            evict(ids);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(ids);
+                }
+            });
+        }
+        return rows;
+    }
+
+    private void evict(Collection<Integer> ids) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        ids.forEach(id -> cache.evictEntityData(Case.class, id));
+        cache.evictQueryRegion(HibernateCacheConfig.STATUS_QUERY_REGION);
+    }
+}
@@ -1,28 +1,111 @@
 package uk.gov.hmcts.reform.dev.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.dev.config.HibernateCacheConfig;
 import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseListVersion;
 import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.models.CaseStatusCount;
+import uk.gov.hmcts.reform.dev.models.CaseSummary;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CaseRepository extends JpaRepository<Case, Integer> {
+
+    // Constructor expression for list views; leaves the TEXT description column unread, and the
+    // rows come back as plain records, so nothing enters the persistence context or is snapshotted
+    String SUMMARY = "new uk.gov.hmcts.reform.dev.models.CaseSummary("
+            + "c.id, c.caseNumber, c.title, c.status, c.dueDate, c.createdDate, c.updatedDate)";
+
+    // JDBC fetch size used when streaming the whole table
+    String EXPORT_FETCH_SIZE = "500";
+
+    // Streamed full scan for exports; must be consumed inside a (read-only) transaction. It
+    // bypasses the second-level cache so one scan does not flush every hot case out of it
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT c FROM Case c ORDER BY c.id")
+    Stream<Case> streamAll();
     
+    // Offset page of summaries
+    @Query(value = "SELECT " + SUMMARY + " FROM Case c",
+           countQuery = "SELECT COUNT(c) FROM Case c")
+    Page<CaseSummary> findSummaries(Pageable pageable);
+
+    // Keyset pagination: first window of an ordered scan (no COUNT query)
+    @Query("SELECT " + SUMMARY + " FROM Case c")
+    List<CaseSummary> findSummariesBy(Pageable pageable);
+
+    // Keyset pagination: next window after the given id
+    @Query("SELECT " + SUMMARY + " FROM Case c WHERE c.id > :id")
+    List<CaseSummary> findSummariesByIdGreaterThan(@Param("id") int id, Pageable pageable);
+
+    // Keyset pagination: next window after the given (createdDate, id) position
+    @Query("SELECT " + SUMMARY + " FROM Case c WHERE c.createdDate > :createdDate OR " +
+           "(c.createdDate = :createdDate AND c.id > :id)")
+    List<CaseSummary> findSummariesAfterCreatedDate(@Param("createdDate") LocalDateTime createdDate,
+                                                    @Param("id") int id,
+                                                    Pageable pageable);
+
     // Find by case number
     Optional<Case> findByCaseNumber(String caseNumber);
+    boolean existsByCaseNumber(String caseNumber);
+
+    // Which of the given case numbers are already taken
+    @Query("SELECT c.caseNumber FROM Case c WHERE c.caseNumber IN :caseNumbers")
+    List<String> findExistingCaseNumbers(@Param("caseNumbers") Collection<String> caseNumbers);
     
-    // Find by status
-    List<Case> findByStatus(CaseStatus status);
-    Page<Case> findByStatus(CaseStatus status, Pageable pageable);
+    // Find by status, served by idx_status (status, id); results and counts are kept in the query
+    // cache, which drops them whenever the cases table is written through Hibernate
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.STATUS_QUERY_REGION)
+    })
+    @Query(value = "SELECT " + SUMMARY + " FROM Case c WHERE c.status = :status",
+           countQuery = "SELECT COUNT(c) FROM Case c WHERE c.status = :status")
+    Page<CaseSummary> findByStatus(@Param("status") CaseStatus status, Pageable pageable);
+
+    // Keyset variant for deep pages within a status
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.STATUS_QUERY_REGION)
+    })
+    @Query("SELECT " + SUMMARY + " FROM Case c WHERE c.status = :status AND c.id > :id")
+    List<CaseSummary> findByStatusAfterId(@Param("status") CaseStatus status,
+                                          @Param("id") int id,
+                                          Pageable pageable);
     
+    // Deadline listings (fallback for the in-memory deadline index), served by idx_due_date (dueDate, id)
+    @Query("SELECT " + SUMMARY + " FROM Case c WHERE c.dueDate < :before AND c.status IN :statuses")
+    List<CaseSummary> findDueBefore(@Param("before") LocalDateTime before,
+                                    @Param("statuses") Collection<CaseStatus> statuses,
+                                    Pageable pageable);
+
+    // Keyset variant: next window after the given (dueDate, id) position
+    @Query("SELECT " + SUMMARY + " FROM Case c WHERE c.dueDate < :before AND c.status IN :statuses AND "
+            + "(c.dueDate > :dueDate OR (c.dueDate = :dueDate AND c.id > :id))")
+    List<CaseSummary> findDueBeforeAfter(@Param("before") LocalDateTime before,
+                                         @Param("statuses") Collection<CaseStatus> statuses,
+                                         @Param("dueDate") LocalDateTime dueDate,
+                                         @Param("id") int id,
+                                         Pageable pageable);
+
     // Find by title containing (case insensitive search)
     @Query("SELECT c FROM Case c WHERE LOWER(c.title) LIKE LOWER(CONCAT('%', :title, '%'))")
     List<Case> findByTitleContainingIgnoreCase(@Param("title") String title);
@@ -31,19 +114,42 @@ public interface CaseRepository extends JpaRepository<Case, Integer> {
     List<Case> findByCreatedDateBetween(LocalDateTime startDate, LocalDateTime endDate);
     
     // Count cases by status
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.STATUS_QUERY_REGION)
+    })
     long countByStatus(CaseStatus status);
+
+    // Every status's count in one pass over idx_status; statuses without cases are left out
+    @Query("SELECT new uk.gov.hmcts.reform.dev.models.CaseStatusCount(c.status, COUNT(c)) "
+            + "FROM Case c GROUP BY c.status")
+    List<CaseStatusCount> countGroupedByStatus();
+
+    @Query("SELECT " + SUMMARY + " FROM Case c WHERE c.id IN :ids")
+    List<CaseSummary> findSummariesByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // Version of one case, without loading the entity (for ETag checks)
+    @Query("SELECT c.version FROM Case c WHERE c.id = :id")
+    Optional<Long> findVersionById(@Param("id") int id);
+
+    // Count plus latest update across the table (for list ETags); MAX is answered from idx_updated_date
+    @Query("SELECT new uk.gov.hmcts.reform.dev.models.CaseListVersion(COUNT(c), MAX(c.updatedDate)) FROM Case c")
+    CaseListVersion findListVersion();
     
     // Custom query to find recent cases
-    @Query("SELECT c FROM Case c WHERE c.createdDate >= :date ORDER BY c.createdDate DESC")
-    List<Case> findRecentCases(@Param("date") LocalDateTime date);
+    @Query("SELECT " + SUMMARY + " FROM Case c WHERE c.createdDate >= :date ORDER BY c.createdDate DESC")
+    List<CaseSummary> findRecentCases(@Param("date") LocalDateTime date);
     
     // Find cases by multiple statuses
     List<Case> findByStatusIn(List<CaseStatus> statuses);
     
-    // Search across multiple fields
-    @Query("SELECT c FROM Case c WHERE " +
+    // Search across multiple fields; description is matched in the database but not returned
+    String SEARCH_FILTER = " FROM Case c WHERE " +
            "LOWER(c.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
            "LOWER(c.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(c.caseNumber) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
-    Page<Case> searchCases(@Param("searchTerm") String searchTerm, Pageable pageable);
+           "LOWER(c.caseNumber) LIKE LOWER(CONCAT('%', :searchTerm, '%'))";
+
+    @Query(value = "SELECT " + SUMMARY + SEARCH_FILTER,
+           countQuery = "SELECT COUNT(c)" + SEARCH_FILTER)
+    Page<CaseSummary> searchCases(@Param("searchTerm") String searchTerm, Pageable pageable);
 }
\ No newline at end of file
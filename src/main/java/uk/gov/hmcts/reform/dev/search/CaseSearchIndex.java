@@ -0,0 +1,255 @@
+package uk.gov.hmcts.reform.dev.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.reform.dev.events.CaseChangeBuffer;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.service.CaseScanner;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory trigram index over case number, title and description.
+ *
+ * <p>A term of three or more characters is answered by intersecting the posting sets of its
+ * trigrams, then confirming each candidate with a substring check, which gives the same
+ * matches as the {@code LIKE '%term%'} query without a table scan. Shorter terms fall back to
+ * checking every indexed case in memory. The index is built once the application is ready and
+ * then follows {@link CaseChangedEvent}s, holding back those that arrive during the build
+ * until it is done; set {@code cases.search.mode=database} to disable it
+ * and answer searches with the JPA query instead.
+ */
+@Component
+public class CaseSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(CaseSearchIndex.class);
+
+    static final int GRAM_LENGTH = 3;
+
+    private static final Comparator<ScoredHit> RANKING =
+            Comparator.comparingInt(ScoredHit::score).reversed().thenComparingInt(ScoredHit::id);
+
+    private final Map<Integer, IndexedCase> documents = new ConcurrentHashMap<>();
+    private final Map<String, Set<Integer>> postings = new ConcurrentHashMap<>();
+    private final CaseChangeBuffer changes = new CaseChangeBuffer();
+
+    @Autowired
+    private CaseScanner caseScanner;
+
+    @Value("${cases.search.mode:index}")
+    private String mode = "index";
+
+    private volatile boolean ready;
+
+    public boolean isEnabled() {
+        return "index".equalsIgnoreCase(mode);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!isEnabled()) {
+            log.info("Case search index disabled; searches use the database");
+            return;
+        }
+        long start = System.nanoTime();
+        long rows;
+        changes.hold();
+        try {
+            rows = caseScanner.forEachCase(this::index);
+        } finally {
+            changes.replay(this::apply);
+        }
+        ready = true;
+        log.info("Case search index built: {} cases, {} trigrams in {} ms",
+                 rows, postings.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCaseChanged(CaseChangedEvent event) {
+        if (isEnabled() && !changes.offer(event)) {
+            apply(event);
+        }
+    }
+
+    private void apply(CaseChangedEvent event) {
+        if (event.type() == CaseChangedEvent.ChangeType.DELETED) {
+            remove(event.caseId());
+        } else {
+            index(event.current());
+        }
+    }
+
+    public void index(Case myCase) {
+        IndexedCase document = IndexedCase.of(myCase);
+        documents.compute(myCase.getId(), (id, previous) -> {
+            Set<String> previousGrams = previous != null ? previous.grams() : Set.of();
+            for (String gram : previousGrams) {
+                if (!document.grams().contains(gram)) {
+                    unpost(gram, id);
+                }
+            }
+            for (String gram : document.grams()) {
+                if (!previousGrams.contains(gram)) {
+                    post(gram, id);
+                }
+            }
+            return document;
+        });
+    }
+
+    public void remove(int caseId) {
+        documents.computeIfPresent(caseId, (id, previous) -> {
+            previous.grams().forEach(gram -> unpost(gram, id));
+            return null;
+        });
+    }
+
+    public SearchHits search(String term, int offset, int limit) {
+        String needle = normalise(term);
+        if (needle.isEmpty()) {
+            return SearchHits.EMPTY;
+        }
+
+        List<ScoredHit> hits = new ArrayList<>();
+        for (IndexedCase document : candidates(needle)) {
+            int score = document.score(needle);
+            if (score > 0) {
+                hits.add(new ScoredHit(document.id(), score));
+            }
+        }
+        hits.sort(RANKING);
+
+        int from = Math.min(Math.max(offset, 0), hits.size());
+        int to = Math.min(from + Math.max(limit, 0), hits.size());
+        List<Integer> ids = new ArrayList<>(to - from);
+        for (ScoredHit hit : hits.subList(from, to)) {
+            ids.add(hit.id());
+        }
+        return new SearchHits(hits.size(), ids);
+    }
+
+    private Collection<IndexedCase> candidates(String needle) {
+        if (needle.length() < GRAM_LENGTH) {
+            return documents.values();
+        }
+
+        List<Set<Integer>> lists = new ArrayList<>();
+        for (String gram : grams(needle)) {
+            Set<Integer> ids = postings.get(gram);
+            if (ids == null) {
+                return List.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        List<IndexedCase> candidates = new ArrayList<>();
+        Set<Integer> smallest = lists.get(0);
+        for (Integer id : smallest) {
+            if (containedInAll(id, lists)) {
+                IndexedCase document = documents.get(id);
+                if (document != null) {
+                    candidates.add(document);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private static boolean containedInAll(Integer id, List<Set<Integer>> lists) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void post(String gram, int id) {
+        postings.compute(gram, (key, ids) -> {
+            Set<Integer> target = ids != null ? ids : ConcurrentHashMap.newKeySet();
+            target.add(id);
+            return target;
+        });
+    }
+
+    private void unpost(String gram, int id) {
+        postings.computeIfPresent(gram, (key, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    static String normalise(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    static Set<String> grams(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private record ScoredHit(int id, int score) {
+    }
+
+    private record IndexedCase(int id, String caseNumber, String title, String description, Set<String> grams) {
+
+        static IndexedCase of(Case myCase) {
+            String caseNumber = normalise(myCase.getCaseNumber());
+            String title = normalise(myCase.getTitle());
+            String description = normalise(myCase.getDescription());
+            Set<String> grams = grams(caseNumber);
+            grams.addAll(grams(title));
+            grams.addAll(grams(description));
+            return new IndexedCase(myCase.getId(), caseNumber, title, description, grams);
+        }
+
+        // Case number matches rank above title matches, which rank above description matches
+        int score(String needle) {
+            int score = 0;
+            if (caseNumber.equals(needle)) {
+                score += 100;
+            } else if (caseNumber.startsWith(needle)) {
+                score += 50;
+            } else if (caseNumber.contains(needle)) {
+                score += 30;
+            }
+            if (title.startsWith(needle)) {
+                score += 25;
+            } else if (title.contains(needle)) {
+                score += 20;
+            }
+            if (description.contains(needle)) {
+                score += 5;
+            }
+            return score;
+        }
+    }
+}
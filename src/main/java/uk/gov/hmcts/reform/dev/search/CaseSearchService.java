@@ -0,0 +1,68 @@
+package uk.gov.hmcts.reform.dev.search;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.models.CaseSummary;
+import uk.gov.hmcts.reform.dev.models.PagedResponse;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Answers case searches from the in-memory {@link CaseSearchIndex} once it is built, and from
+ * the {@code LIKE} query in {@link CaseRepository#searchCases} otherwise.
+ */
+@Service
+public class CaseSearchService {
+
+    @Autowired
+    private CaseRepository myCaseRepository;
+
+    @Autowired
+    private CaseSearchIndex searchIndex;
+
+    @Transactional(readOnly = true)
+    public PagedResponse<CaseSummary> searchCases(String term, int page, int size) {
+        int pageNumber = Math.max(page, 0);
+        int pageSize = PagedResponse.clampPageSize(size);
+        if (term == null || term.isBlank()) {
+            return new PagedResponse<>(List.of(), pageNumber, pageSize, 0);
+        }
+
+        if (!searchIndex.isReady()) {
+            Page<CaseSummary> cases = myCaseRepository.searchCases(term.trim(),
+                    PageRequest.of(pageNumber, pageSize, Sort.by("id")));
+            return new PagedResponse<>(cases.getContent(), cases.getNumber(), cases.getSize(),
+                    cases.getTotalElements());
+        }
+
+        int offset = (int) Math.min((long) pageNumber * pageSize, Integer.MAX_VALUE);
+        SearchHits hits = searchIndex.search(term, offset, pageSize);
+        return new PagedResponse<>(loadInRankOrder(hits.ids()), pageNumber, pageSize, hits.total());
+    }
+
+    private List<CaseSummary> loadInRankOrder(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, CaseSummary> byId = myCaseRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(CaseSummary::id, Function.identity()));
+        List<CaseSummary> cases = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            CaseSummary summary = byId.get(id);
+            // Skip cases deleted between the index lookup and the load
+            if (summary != null) {
+                cases.add(summary);
+            }
+        }
+        return cases;
+    }
+}
@@ -0,0 +1,14 @@
+package uk.gov.hmcts.reform.dev.search;
+
+import java.util.List;
+
+/**
+ * One page of ranked search results.
+ *
+ * @param total number of matching cases across all pages
+ * @param ids   case ids on the requested page, best match first
+ */
+public record SearchHits(long total, List<Integer> ids) {
+
+    public static final SearchHits EMPTY = new SearchHits(0, List.of());
+}
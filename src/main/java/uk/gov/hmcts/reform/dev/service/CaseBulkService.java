@@ -0,0 +1,299 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.config.CacheConfig;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.exception.BatchTooLargeException;
+import uk.gov.hmcts.reform.dev.models.BulkItemResult;
+import uk.gov.hmcts.reform.dev.models.BulkOutcome;
+import uk.gov.hmcts.reform.dev.models.BulkResponse;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.models.CaseSummary;
+import uk.gov.hmcts.reform.dev.repository.CaseJdbcWriter;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Multi-case operations. Valid, non-duplicate cases are inserted in chunks, one transaction
+ * and one JDBC batch per chunk; a chunk that hits a constraint violation is retried row by
+ * row so a single bad item cannot fail the rest of the request.
+ *
+ * <p>Status transitions and deletes are also chunked, with one set-based statement per chunk
+ * run through {@link CaseJdbcWriter}, so only the affected cases leave the second-level cache.
+ * A transition updates first and then reads the chunk back in one IN query to report a per-ID
+ * outcome; a delete reads the chunk's summaries first, then removes them in one statement.
+ */
+@Service
+public class CaseBulkService {
+
+    @Autowired
+    private CaseRepository myCaseRepository;
+
+    @Autowired
+    private CaseJdbcWriter caseJdbcWriter;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Value("${cases.batch.chunk-size:50}")
+    private int chunkSize;
+
+    @Value("${cases.batch.max-items:1000}")
+    private int maxItems;
+
+    public BulkResponse createCases(List<Case> cases) {
+        if (cases.size() > maxItems) {
+            throw new BatchTooLargeException("A batch may contain at most " + maxItems + " cases");
+        }
+
+        BulkItemResult[] results = new BulkItemResult[cases.size()];
+        List<Integer> candidates = new ArrayList<>(cases.size());
+        Map<String, Integer> firstIndexByCaseNumber = new HashMap<>();
+
+        for (int i = 0; i < cases.size(); i++) {
+            Case myCase = cases.get(i);
+            if (myCase == null) {
+                results[i] = BulkItemResult.builder()
+                        .index(i)
+                        .outcome(BulkOutcome.INVALID)
+                        .errors(List.of("case: must not be null"))
+                        .build();
+                continue;
+            }
+            Set<ConstraintViolation<Case>> violations = validator.validate(myCase);
+            if (!violations.isEmpty()) {
+                results[i] = result(i, myCase, BulkOutcome.INVALID, violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .toList());
+            } else if (firstIndexByCaseNumber.putIfAbsent(myCase.getCaseNumber(), i) != null) {
+                results[i] = result(i, myCase, BulkOutcome.DUPLICATE,
+                        List.of("caseNumber: duplicated within the batch"));
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            Set<String> existing = new HashSet<>(
+                    myCaseRepository.findExistingCaseNumbers(firstIndexByCaseNumber.keySet()));
+            List<Integer> chunk = new ArrayList<>(chunkSize);
+            for (int index : candidates) {
+                Case myCase = cases.get(index);
+                if (existing.contains(myCase.getCaseNumber())) {
+                    results[index] = result(index, myCase, BulkOutcome.DUPLICATE,
+                            List.of("caseNumber: case number already exists"));
+                    continue;
+                }
+                chunk.add(index);
+                if (chunk.size() == chunkSize) {
+                    insertChunk(cases, chunk, results);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                insertChunk(cases, chunk, results);
+            }
+        }
+
+        return response(results);
+    }
+
+    public BulkResponse transitionStatus(List<Integer> ids, CaseStatus status) {
+        BulkItemResult[] results = new BulkItemResult[ids.size()];
+        for (List<Integer> chunk : idChunks(ids, results)) {
+            transitionChunk(ids, chunk, status, results);
+        }
+        return response(results);
+    }
+
+    public BulkResponse deleteCases(List<Integer> ids) {
+        BulkItemResult[] results = new BulkItemResult[ids.size()];
+        for (List<Integer> chunk : idChunks(ids, results)) {
+            deleteChunk(ids, chunk, results);
+        }
+        return response(results);
+    }
+
+    // Rejects null and repeated IDs, then splits the positions of the rest into chunks
+    private List<List<Integer>> idChunks(List<Integer> ids, BulkItemResult[] results) {
+        if (ids.size() > maxItems) {
+            throw new BatchTooLargeException("A request may contain at most " + maxItems + " case IDs");
+        }
+        List<List<Integer>> chunks = new ArrayList<>();
+        List<Integer> chunk = new ArrayList<>(chunkSize);
+        Set<Integer> seen = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Integer id = ids.get(i);
+            if (id == null) {
+                results[i] = idResult(i, null, null, BulkOutcome.INVALID, List.of("id: must not be null"));
+            } else if (!seen.add(id)) {
+                results[i] = idResult(i, id, null, BulkOutcome.DUPLICATE, List.of("id: duplicated within the request"));
+            } else {
+                chunk.add(i);
+                if (chunk.size() == chunkSize) {
+                    chunks.add(chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private void transitionChunk(List<Integer> ids, List<Integer> chunk, CaseStatus status,
+                                 BulkItemResult[] results) {
+        List<Integer> chunkIds = chunk.stream().map(ids::get).toList();
+        // Microseconds, as stored, so the rows this update stamped can be recognised when read back
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        Map<Integer, Case> rows = new TransactionTemplate(transactionManager).execute(transaction -> {
+            caseJdbcWriter.updateStatusByIdIn(chunkIds, status, now);
+            Map<Integer, Case> found = new HashMap<>();
+            for (Case myCase : myCaseRepository.findAllById(chunkIds)) {
+                found.put(myCase.getId(), myCase);
+            }
+            return found;
+        });
+
+        for (int index : chunk) {
+            Case myCase = rows.get(ids.get(index));
+            if (myCase == null) {
+                results[index] = idResult(index, ids.get(index), null, BulkOutcome.NOT_FOUND, null);
+            } else if (myCase.getStatus() != status || !now.equals(myCase.getUpdatedDate())) {
+                results[index] = idResult(index, myCase.getId(), myCase.getCaseNumber(), BulkOutcome.UNCHANGED, null);
+            } else {
+                evict(myCase.getId());
+                // The update does not report the statuses it replaced; the counters reconcile them
+                eventPublisher.publishEvent(CaseChangedEvent.updated(myCase, null));
+                results[index] = idResult(index, myCase.getId(), myCase.getCaseNumber(), BulkOutcome.UPDATED, null);
+            }
+        }
+    }
+
+    private void deleteChunk(List<Integer> ids, List<Integer> chunk, BulkItemResult[] results) {
+        List<Integer> chunkIds = chunk.stream().map(ids::get).toList();
+        Map<Integer, CaseSummary> rows = new TransactionTemplate(transactionManager).execute(transaction -> {
+            Map<Integer, CaseSummary> found = new HashMap<>();
+            for (CaseSummary summary : myCaseRepository.findSummariesByIdIn(chunkIds)) {
+                found.put(summary.id(), summary);
+            }
+            if (!found.isEmpty()) {
+                caseJdbcWriter.deleteByIdIn(found.keySet());
+            }
+            return found;
+        });
+
+        for (int index : chunk) {
+            CaseSummary summary = rows.get(ids.get(index));
+            if (summary == null) {
+                results[index] = idResult(index, ids.get(index), null, BulkOutcome.NOT_FOUND, null);
+            } else {
+                evict(summary.id());
+                eventPublisher.publishEvent(CaseChangedEvent.deleted(summary.id(), summary.status()));
+                results[index] = idResult(index, summary.id(), summary.caseNumber(), BulkOutcome.DELETED, null);
+            }
+        }
+    }
+
+    private void evict(int caseId) {
+        Cache cache = cacheManager.getCache(CacheConfig.CASES_CACHE);
+        if (cache != null) {
+            cache.evict(caseId);
+        }
+    }
+
+    private static BulkResponse response(BulkItemResult[] results) {
+        int succeeded = (int) Arrays.stream(results)
+                .filter(result -> result.getOutcome().isSuccess())
+                .count();
+        return BulkResponse.builder()
+                .succeeded(succeeded)
+                .failed(results.length - succeeded)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    private void insertChunk(List<Case> cases, List<Integer> chunk, BulkItemResult[] results) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<Case> batch = chunk.stream().map(cases::get).toList();
+        try {
+            transaction.executeWithoutResult(status -> myCaseRepository.saveAllAndFlush(batch));
+            for (int index : chunk) {
+                results[index] = result(index, cases.get(index), BulkOutcome.CREATED, null);
+                eventPublisher.publishEvent(CaseChangedEvent.created(cases.get(index)));
+            }
+        } catch (DataIntegrityViolationException e) {
+            // Another writer took one of the case numbers since the pre-check; isolate it
+            for (int index : chunk) {
+                results[index] = insertSingle(transaction, index, cases.get(index));
+            }
+        }
+    }
+
+    private BulkItemResult insertSingle(TransactionTemplate transaction, int index, Case myCase) {
+        // The rolled back batch insert already assigned an id and version; clear them so the case is persisted as new
+        myCase.setId(0);
+        myCase.setVersion(null);
+        try {
+            transaction.executeWithoutResult(status -> myCaseRepository.saveAndFlush(myCase));
+            eventPublisher.publishEvent(CaseChangedEvent.created(myCase));
+            return result(index, myCase, BulkOutcome.CREATED, null);
+        } catch (DataIntegrityViolationException e) {
+            return myCaseRepository.existsByCaseNumber(myCase.getCaseNumber())
+                    ? result(index, myCase, BulkOutcome.DUPLICATE, List.of("caseNumber: case number already exists"))
+                    : result(index, myCase, BulkOutcome.FAILED, List.of("Data integrity constraint violation"));
+        }
+    }
+
+    private static BulkItemResult idResult(int index, Integer id, String caseNumber, BulkOutcome outcome,
+                                           List<String> errors) {
+        return BulkItemResult.builder()
+                .index(index)
+                .id(id)
+                .caseNumber(caseNumber)
+                .outcome(outcome)
+                .errors(errors)
+                .build();
+    }
+
+    private static BulkItemResult result(int index, Case myCase, BulkOutcome outcome, List<String> errors) {
+        return BulkItemResult.builder()
+                .index(index)
+                .id(outcome == BulkOutcome.CREATED ? myCase.getId() : null)
+                .caseNumber(myCase.getCaseNumber())
+                .outcome(outcome)
+                .errors(errors)
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.exception.CaseVersionConflictException;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseListVersion;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Strong ETags for case reads. Each one comes from a single-column or aggregate query, so a
+ * conditional GET can be answered with 304 without loading or serialising any case.
+ *
+ * <p>A case's tag is its id and optimistic lock version, so the same value sent back in
+ * If-Match tells a PATCH which version the client last saw. The gzip body of a case differs
+ * byte for byte from the identity one, so it carries the same tag with a {@code -gz} suffix;
+ * both forms are accepted wherever a tag is sent back. List tags use the latest update time,
+ * compared at millisecond precision, which every supported database stores exactly.
+ */
+@Service
+public class CaseEtagService {
+
+    private static final String GZIP_SUFFIX = "-gz";
+
+    @Autowired
+    private CaseRepository myCaseRepository;
+
+    // null when the id is malformed or unknown; the read that follows reports the 404
+    public String caseEtag(String caseId) {
+        int id;
+        try {
+            id = Integer.parseInt(caseId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return myCaseRepository.findVersionById(id)
+                .map(version -> caseEtag(id, version))
+                .orElse(null);
+    }
+
+    public static String caseEtag(Case myCase) {
+        return caseEtag(myCase.getId(), myCase.getVersion() != null ? myCase.getVersion() : 0L);
+    }
+
+    public static String gzipEtag(String etag) {
+        return etag.substring(0, etag.length() - 1) + GZIP_SUFFIX + "\"";
+    }
+
+    /**
+     * Picks the form of a case's tag that a conditional GET is checked against: the one listed
+     * in If-None-Match if either is, since a 304 revalidates whichever copy the client holds, and
+     * otherwise the form of the body about to be sent.
+     */
+    public static String revalidatedEtag(String ifNoneMatch, String etag, boolean gzip) {
+        String gzipped = gzipEtag(etag);
+        for (String requested : ifNoneMatch.split(",")) {
+            String tag = requested.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(gzipped)) {
+                return gzipped;
+            }
+            if (tag.equals(etag)) {
+                return etag;
+            }
+        }
+        return gzip ? gzipped : etag;
+    }
+
+    /**
+     * Reads the version out of an If-Match header for the given case, in either body's form.
+     * Returns null for {@code *} (any version); a tag for another case or in another format can
+     * never match, so it is reported as a conflict.
+     */
+    public static Long expectedVersion(String ifMatch, String caseId) {
+        String tag = ifMatch.trim();
+        if ("*".equals(tag)) {
+            return null;
+        }
+        String prefix = "\"" + caseId + "-v";
+        if (tag.startsWith(prefix) && tag.endsWith("\"") && tag.length() > prefix.length() + 1) {
+            String version = tag.substring(prefix.length(), tag.length() - 1);
+            if (version.endsWith(GZIP_SUFFIX)) {
+                version = version.substring(0, version.length() - GZIP_SUFFIX.length());
+            }
+            try {
+                return Long.parseLong(version);
+            } catch (NumberFormatException e) {
+                // fall through to the conflict below
+            }
+        }
+        throw new CaseVersionConflictException("If-Match " + tag + " does not match case " + caseId);
+    }
+
+    // Read-only like the list itself, so with a replica both come from the same database
+    @Transactional(readOnly = true)
+    public String listEtag() {
+        CaseListVersion version = myCaseRepository.findListVersion();
+        return "\"list-" + version.count() + "-" + millis(version.lastModified()) + "\"";
+    }
+
+    private static String caseEtag(int id, long version) {
+        return "\"" + id + "-v" + version + "\"";
+    }
+
+    private static String millis(LocalDateTime timestamp) {
+        return timestamp == null ? "0" : Long.toHexString(timestamp.toInstant(ZoneOffset.UTC).toEpochMilli());
+    }
+}
@@ -0,0 +1,98 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseExportFormat;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Streams every case straight from a database cursor to an output stream. Each row is
+ * detached once written, so heap use stays flat however large the table is.
+ */
+@Service
+public class CaseExportService {
+
+    static final String CSV_HEADER = "id,caseNumber,title,description,status,dueDate,createdDate,updatedDate";
+
+    // Rows written between flushes, so the client starts receiving data before the scan ends
+    private static final int FLUSH_INTERVAL = 500;
+
+    @Autowired
+    private CaseRepository myCaseRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public long exportCases(CaseExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == CaseExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long rows = 0;
+        try (Stream<Case> cases = myCaseRepository.streamAll()) {
+            Iterator<Case> iterator = cases.iterator();
+            while (iterator.hasNext()) {
+                Case myCase = iterator.next();
+                if (format == CaseExportFormat.CSV) {
+                    writeCsvRow(writer, myCase);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(myCase));
+                }
+                writer.write('\n');
+                entityManager.detach(myCase);
+
+                if (++rows % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private static void writeCsvRow(Writer writer, Case myCase) throws IOException {
+        writer.write(String.valueOf(myCase.getId()));
+        writeCsvField(writer, myCase.getCaseNumber());
+        writeCsvField(writer, myCase.getTitle());
+        writeCsvField(writer, myCase.getDescription());
+        writeCsvField(writer, myCase.getStatus() != null ? myCase.getStatus().name() : null);
+        writeCsvField(writer, Objects.toString(myCase.getDueDate(), null));
+        writeCsvField(writer, Objects.toString(myCase.getCreatedDate(), null));
+        writeCsvField(writer, Objects.toString(myCase.getUpdatedDate(), null));
+    }
+
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,131 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.models.Case;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Pre-serialized {@code GET /cases/{id}} bodies, plain and gzipped, so a hot case is served by
+ * writing bytes instead of running Jackson (and its date formatting) on every request.
+ *
+ * <p>Entries are keyed by case id and hold the version they were built from; a lookup for any
+ * other version rebuilds the entry, so a stale body is never served even if an invalidation is
+ * missed. Change events still drop entries promptly so the budget is not spent on dead bodies.
+ *
+ * <p>The cache is bounded by the total size of the bodies it holds. With {@code off-heap} the
+ * bodies live in direct buffers, outside the collected heap, and a hit is written from the
+ * buffer to the response with no heap copy of the body; the native memory is returned once an
+ * evicted buffer is collected.
+ */
+@Component
+public class CaseJsonCache {
+
+    // Rough per-entry cost of the key, entry and buffer objects, counted against the budget
+    private static final int ENTRY_OVERHEAD = 128;
+
+    private final ObjectMapper objectMapper;
+    private final boolean offHeap;
+    private final Cache<Integer, Entry> entries;
+
+    public CaseJsonCache(ObjectMapper objectMapper, MeterRegistry registry,
+                         @Value("${cases.json-cache.max-size:64MB}") DataSize maxSize,
+                         @Value("${cases.json-cache.off-heap:false}") boolean offHeap) {
+        this.objectMapper = objectMapper;
+        this.offHeap = offHeap;
+        if (maxSize.toBytes() <= 0) {
+            this.entries = null;
+            return;
+        }
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Integer id, Entry entry) -> entry.weight())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, entries, "cases.json");
+    }
+
+    /**
+     * The JSON body for the case, gzipped if asked, between the buffer's position and limit.
+     * The content may be shared between requests and must not be modified.
+     */
+    public ByteBuffer body(Case myCase, boolean gzip) {
+        long version = myCase.getVersion() != null ? myCase.getVersion() : 0L;
+        if (entries == null) {
+            byte[] json = serialize(myCase);
+            return ByteBuffer.wrap(gzip ? gzip(json) : json);
+        }
+
+        Entry entry = entries.getIfPresent(myCase.getId());
+        if (entry == null || entry.version() != version) {
+            Entry built = build(myCase, version);
+            // A racing reader may have cached a newer version meanwhile; keep whichever is newer
+            entry = entries.asMap().merge(myCase.getId(), built,
+                    (cached, fresh) -> cached.version() >= fresh.version() ? cached : fresh);
+            if (entry.version() != version) {
+                entry = built;
+            }
+        }
+        // Each caller gets its own position over the shared content
+        return (gzip ? entry.gzip() : entry.json()).duplicate();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCaseChanged(CaseChangedEvent event) {
+        if (entries != null) {
+            entries.invalidate(event.caseId());
+        }
+    }
+
+    private Entry build(Case myCase, long version) {
+        byte[] json = serialize(myCase);
+        return new Entry(version, buffer(json), buffer(gzip(json)));
+    }
+
+    private byte[] serialize(Case myCase) {
+        try {
+            return objectMapper.writeValueAsBytes(myCase);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize case " + myCase.getId(), e);
+        }
+    }
+
+    private ByteBuffer buffer(byte[] bytes) {
+        if (!offHeap) {
+            return ByteBuffer.wrap(bytes);
+        }
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        return direct;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private record Entry(long version, ByteBuffer json, ByteBuffer gzip) {
+        int weight() {
+            return json.capacity() + gzip.capacity() + ENTRY_OVERHEAD;
+        }
+    }
+}
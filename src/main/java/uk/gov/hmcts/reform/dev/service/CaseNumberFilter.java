@@ -0,0 +1,199 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.models.Case;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over every case number, so "is this number taken?" is usually answered without
+ * the database. A negative answer is definite; a positive one only means the number may exist
+ * and must be confirmed with a query.
+ *
+ * <p>Bits are only ever set, never cleared: a deleted or renumbered case leaves its old number
+ * as a false positive, which costs a confirming query but never a wrong answer. Until the
+ * filter is built every number is reported as possibly present. Sized for
+ * {@code cases.case-number-filter.expected-cases} at the configured false positive rate; beyond
+ * that the rate rises, and a warning is logged.
+ *
+ * <p>The filter only sees this instance's writes, so it is rebuilt from a table scan every
+ * {@code rebuild-interval}, which also drops the numbers of deleted cases. Until then a number
+ * stored by another instance is missing from it; when more than one instance writes cases,
+ * set {@code trust-misses=false} so a miss is confirmed with a query like a hit. Changes made
+ * during a rebuild go into both the filter in use and the one being built.
+ */
+@Component
+public class CaseNumberFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(CaseNumberFilter.class);
+
+    private final int words;
+    private final int hashCount;
+    private final long expectedCases;
+    private final boolean trustMisses;
+    private final AtomicBoolean saturationLogged = new AtomicBoolean();
+
+    @Autowired
+    private CaseScanner caseScanner;
+
+    // Null until first built; replaced whole by each rebuild
+    private volatile Bits active;
+    // The filter a rebuild is filling, so changes made meanwhile reach it as well
+    private volatile Bits building;
+
+    public CaseNumberFilter(@Value("${cases.case-number-filter.expected-cases:1000000}") long expectedCases,
+                            @Value("${cases.case-number-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                            @Value("${cases.case-number-filter.trust-misses:true}") boolean trustMisses) {
+        this.expectedCases = Math.max(expectedCases, 1);
+        this.trustMisses = trustMisses;
+        // Optimal sizing: m = -n ln p / (ln 2)^2 bits and k = (m / n) ln 2 hash functions
+        long optimalBits = (long) Math.ceil(-this.expectedCases * Math.log(falsePositiveRate)
+                                                    / (Math.log(2) * Math.log(2)));
+        this.words = Math.max((int) Math.min((optimalBits + 63) / 64, Integer.MAX_VALUE), 1);
+        this.hashCount = Math.max(1, (int) Math.round((double) words * 64 / this.expectedCases * Math.log(2)));
+    }
+
+    public boolean isReady() {
+        return active != null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        if (!trustMisses) {
+            log.info("Case number filter disabled; case numbers are always checked in the database");
+            return;
+        }
+        long start = System.nanoTime();
+        Bits fresh = new Bits(words);
+        building = fresh;
+        long rows;
+        try {
+            rows = caseScanner.forEachCase(myCase -> fresh.set(myCase.getCaseNumber(), hashCount));
+            fresh.added.set(rows);
+            active = fresh;
+        } finally {
+            building = null;
+        }
+        log.info("Case number filter built: {} cases, {} KB, {} hashes in {} ms", rows, (long) words * 8 / 1024,
+                 hashCount, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @Scheduled(initialDelayString = "${cases.case-number-filter.rebuild-interval:1h}",
+               fixedDelayString = "${cases.case-number-filter.rebuild-interval:1h}")
+    public void scheduledRebuild() {
+        if (isReady()) {
+            rebuild();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCaseChanged(CaseChangedEvent event) {
+        // An update may have changed the number; setting the bits again is harmless if it did not
+        Case current = event.current();
+        if (event.type() == CaseChangedEvent.ChangeType.CREATED) {
+            add(current.getCaseNumber());
+        } else if (current != null) {
+            set(current.getCaseNumber());
+        }
+    }
+
+    public boolean mightContain(String caseNumber) {
+        Bits bits = active;
+        if (bits == null || caseNumber == null) {
+            return true;
+        }
+        return bits.mightContain(caseNumber, hashCount);
+    }
+
+    public void add(String caseNumber) {
+        Bits bits = set(caseNumber);
+        if (bits != null && bits.added.incrementAndGet() > expectedCases
+                && saturationLogged.compareAndSet(false, true)) {
+            log.warn("Case number filter holds more than the {} cases it was sized for; "
+                             + "raise cases.case-number-filter.expected-cases", expectedCases);
+        }
+    }
+
+    // Returns the filter in use, or null if there is none yet
+    private Bits set(String caseNumber) {
+        if (caseNumber == null) {
+            return null;
+        }
+        // Read building first: once it is seen cleared, active already holds the rebuilt filter
+        Bits next = building;
+        Bits bits = active;
+        if (next != null) {
+            next.set(caseNumber, hashCount);
+        }
+        if (bits != null && bits != next) {
+            bits.set(caseNumber, hashCount);
+        }
+        return bits;
+    }
+
+    // FNV-1a over the characters, then a 64-bit finaliser so both halves are well mixed
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static final class Bits {
+
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final AtomicLong added = new AtomicLong();
+
+        private Bits(int words) {
+            this.words = new AtomicLongArray(words);
+            this.bitCount = (long) words * 64;
+        }
+
+        private boolean mightContain(String caseNumber, int hashCount) {
+            long hash = hash(caseNumber);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void set(String caseNumber, int hashCount) {
+            if (caseNumber == null) {
+                return;
+            }
+            long hash = hash(caseNumber);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+                long mask = 1L << bit;
+                words.getAndAccumulate((int) (bit >>> 6), mask, (word, m) -> word | m);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.datasource.PrimaryPin;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Full-table scan used to warm in-memory views at startup. Rows come from a database cursor
+ * and are detached after use, so the scan does not accumulate entities in the session.
+ */
+@Component
+public class CaseScanner {
+
+    @Autowired
+    private CaseRepository myCaseRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Pinned to the primary: views built from the scan are kept current by change events,
+    // so the scan must not miss writes a lagging replica has not applied yet
+    @Transactional(readOnly = true)
+    public long forEachCase(Consumer<Case> action) {
+        long rows = 0;
+        try (PrimaryPin.Scope ignored = PrimaryPin.enter();
+             Stream<Case> cases = myCaseRepository.streamAll()) {
+            Iterator<Case> iterator = cases.iterator();
+            while (iterator.hasNext()) {
+                Case myCase = iterator.next();
+                action.accept(myCase);
+                entityManager.detach(myCase);
+                rows++;
+            }
+        }
+        return rows;
+    }
+}
@@ -1,6 +1,8 @@
 package uk.gov.hmcts.reform.dev.service;
 
 import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.models.CaseSummary;
 import uk.gov.hmcts.reform.dev.models.PagedResponse;
 
 import org.springframework.http.ResponseEntity;
@@ -8,7 +10,11 @@ import org.springframework.http.ResponseEntity;
 public interface CaseService {
     Case createCase(Case myCase);
     Case getCaseById(String caseId);
-    ResponseEntity<PagedResponse<Case>> fetchCaseList();
+    Case getCaseByCaseNumber(String caseNumber);
+    ResponseEntity<PagedResponse<CaseSummary>> fetchCaseList(int page, int size);
+    ResponseEntity<PagedResponse<CaseSummary>> fetchCaseListAfter(String after, int limit, String sort);
+    ResponseEntity<PagedResponse<CaseSummary>> getCasesByStatus(CaseStatus status, int page, int size, String after);
     Case updateCase(Case myCase, String caseId);
+    Case patchCase(Case changes, String caseId, Long expectedVersion);
     void deleteCaseById(String caseId);
 }
\ No newline at end of file
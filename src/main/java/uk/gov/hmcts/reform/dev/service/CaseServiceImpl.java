@@ -1,30 +1,89 @@
 package uk.gov.hmcts.reform.dev.service;
 
+import uk.gov.hmcts.reform.dev.config.CacheConfig;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
 import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseCursor;
 import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.models.CaseSummary;
 import uk.gov.hmcts.reform.dev.models.PagedResponse;
+import uk.gov.hmcts.reform.dev.repository.CaseJdbcWriter;
 import uk.gov.hmcts.reform.dev.repository.CaseRepository;
 import uk.gov.hmcts.reform.dev.exception.CaseNotFoundException;
+import uk.gov.hmcts.reform.dev.exception.CaseQueueFullException;
+import uk.gov.hmcts.reform.dev.exception.CaseVersionConflictException;
+import uk.gov.hmcts.reform.dev.exception.DuplicateCaseNumberException;
+import uk.gov.hmcts.reform.dev.exception.InvalidPageRequestException;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 
 public class CaseServiceImpl implements CaseService {
 
+    private static final Sort BY_ID = Sort.by("id");
+    private static final Sort BY_CREATED_DATE = Sort.by("createdDate", "id");
+
     @Autowired
     private CaseRepository myCaseRepository;
 
+    @Autowired
+    private CaseJdbcWriter caseJdbcWriter;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Present only when cases.write-behind.enabled is set
+    @Autowired(required = false)
+    private CaseWriteQueue caseWriteQueue;
+
+    @Autowired
+    private CaseNumberFilter caseNumberFilter;
+
     @Override
     public Case createCase(Case myCase) {
-        return myCaseRepository.save(myCase);
+        // Usually settled by the filter alone; the unique constraint still catches what it cannot see
+        if (caseNumberFilter.mightContain(myCase.getCaseNumber())
+                && myCaseRepository.existsByCaseNumber(myCase.getCaseNumber())) {
+            throw new DuplicateCaseNumberException("Case number " + myCase.getCaseNumber() + " already exists");
+        }
+        if (caseWriteQueue != null) {
+            // The queue's writer publishes the created event once the batch commits
+            try {
+                return caseWriteQueue.submit(myCase).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof TimeoutException) {
+                    throw new CaseQueueFullException("Case " + myCase.getCaseNumber() + " was queued but not "
+                            + "confirmed in time; it may still be created, so check before retrying");
+                }
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        Case createdCase = myCaseRepository.save(myCase);
+        eventPublisher.publishEvent(CaseChangedEvent.created(createdCase));
+        return createdCase;
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.CASES_CACHE, key = CacheConfig.CASE_KEY, sync = true)
     public Case getCaseById(String caseId) {
         try {
             int id = Integer.parseInt(caseId);
@@ -36,18 +95,96 @@ public class CaseServiceImpl implements CaseService {
     }
 
     @Override
-    public ResponseEntity<PagedResponse<Case>> fetchCaseList() {
-        List<Case> cases = (List<Case>) myCaseRepository.findAll();
-        PagedResponse<Case> pagedResponse = new PagedResponse<>(cases, 0, cases.size(), cases.size());
+    public Case getCaseByCaseNumber(String caseNumber) {
+        // A number the filter has never seen is answered without a query
+        if (!caseNumberFilter.mightContain(caseNumber)) {
+            throw new CaseNotFoundException("Case with number " + caseNumber + " not found");
+        }
+        return myCaseRepository.findByCaseNumber(caseNumber)
+                .orElseThrow(() -> new CaseNotFoundException("Case with number " + caseNumber + " not found"));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResponseEntity<PagedResponse<CaseSummary>> fetchCaseList(int page, int size) {
+        Page<CaseSummary> cases = myCaseRepository.findSummaries(
+                PageRequest.of(Math.max(page, 0), PagedResponse.clampPageSize(size), BY_ID));
+        PagedResponse<CaseSummary> pagedResponse = new PagedResponse<>(cases.getContent(), cases.getNumber(),
+                cases.getSize(), cases.getTotalElements());
         return ResponseEntity.ok(pagedResponse);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public ResponseEntity<PagedResponse<CaseSummary>> fetchCaseListAfter(String after, int limit, String sort) {
+        int pageSize = PagedResponse.clampPageSize(limit);
+        CaseCursor cursor = after == null || after.isBlank() ? null : CaseCursor.parse(after);
+        boolean byCreatedDate = cursor != null ? cursor.isByCreatedDate() : isCreatedDateSort(sort);
+
+        Pageable window = PageRequest.of(0, pageSize + 1, byCreatedDate ? BY_CREATED_DATE : BY_ID);
+        List<CaseSummary> cases;
+        if (cursor == null) {
+            cases = myCaseRepository.findSummariesBy(window);
+        } else if (byCreatedDate) {
+            cases = myCaseRepository.findSummariesAfterCreatedDate(cursor.createdDate(), cursor.id(), window);
+        } else {
+            cases = myCaseRepository.findSummariesByIdGreaterThan(cursor.id(), window);
+        }
+
+        Function<CaseSummary, CaseCursor> cursorOf = byCreatedDate
+                ? summary -> CaseCursor.afterCreatedDate(summary.createdDate(), summary.id())
+                : summary -> CaseCursor.afterId(summary.id());
+        return ResponseEntity.ok(cursorPage(cases, pageSize, cursorOf));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResponseEntity<PagedResponse<CaseSummary>> getCasesByStatus(CaseStatus status, int page, int size,
+                                                                       String after) {
+        int pageSize = PagedResponse.clampPageSize(size);
+        if (after == null || after.isBlank()) {
+            Page<CaseSummary> cases = myCaseRepository.findByStatus(status,
+                    PageRequest.of(Math.max(page, 0), pageSize, BY_ID));
+            return ResponseEntity.ok(new PagedResponse<>(cases.getContent(), cases.getNumber(),
+                    cases.getSize(), cases.getTotalElements()));
+        }
+
+        CaseCursor cursor = CaseCursor.parse(after);
+        if (cursor.isByCreatedDate()) {
+            throw new InvalidPageRequestException("Status listings only support id cursors: " + after);
+        }
+        List<CaseSummary> cases = myCaseRepository.findByStatusAfterId(status, cursor.id(),
+                PageRequest.of(0, pageSize + 1, BY_ID));
+        return ResponseEntity.ok(cursorPage(cases, pageSize, summary -> CaseCursor.afterId(summary.id())));
+    }
+
+    // Rows were read with one extra element, so a next cursor is only issued when more rows exist
+    private static <T> PagedResponse<T> cursorPage(List<T> rows, int pageSize, Function<T, CaseCursor> cursorOf) {
+        if (rows.size() <= pageSize) {
+            return new PagedResponse<>(rows, pageSize, null);
+        }
+        List<T> window = rows.subList(0, pageSize);
+        return new PagedResponse<>(window, pageSize, cursorOf.apply(window.get(pageSize - 1)).encode());
+    }
+
+    private static boolean isCreatedDateSort(String sort) {
+        if (sort == null || sort.isBlank() || "id".equals(sort)) {
+            return false;
+        }
+        if ("createdDate".equals(sort)) {
+            return true;
+        }
+        throw new InvalidPageRequestException("Unsupported sort for cursor paging: " + sort);
+    }
+
+    @Override
+    @CachePut(cacheNames = CacheConfig.CASES_CACHE, key = CacheConfig.CASE_KEY)
     public Case updateCase(Case myCase, String caseId) {
         try {
             int id = Integer.parseInt(caseId);
             Case existingCase = myCaseRepository.findById(id)
                     .orElseThrow(() -> new CaseNotFoundException("Case with ID " + caseId + " not found"));
+            CaseStatus previousStatus = existingCase.getStatus();
 
             if (Objects.nonNull(myCase.getTitle()) && !myCase.getTitle().trim().isEmpty()) {
                 existingCase.setTitle(myCase.getTitle());
@@ -69,26 +206,75 @@ public class CaseServiceImpl implements CaseService {
                 existingCase.setCaseNumber(myCase.getCaseNumber());
             }
 
-            return myCaseRepository.save(existingCase);
+            Case updatedCase = myCaseRepository.save(existingCase);
+            eventPublisher.publishEvent(CaseChangedEvent.updated(updatedCase, previousStatus));
+            return updatedCase;
+        } catch (NumberFormatException e) {
+            throw new CaseNotFoundException("Invalid case ID format: " + caseId);
+        }
+    }
+
+    // Evicted before the call so a conflicting patch still drops a possibly stale entry, and
+    // after it so a read racing the update cannot leave the previous version cached
+    @Override
+    @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.CASES_CACHE, key = CacheConfig.CASE_KEY, beforeInvocation = true),
+        @CacheEvict(cacheNames = CacheConfig.CASES_CACHE, key = CacheConfig.CASE_KEY)
+    })
+    public Case patchCase(Case changes, String caseId, Long expectedVersion) {
+        int id;
+        try {
+            id = Integer.parseInt(caseId);
         } catch (NumberFormatException e) {
             throw new CaseNotFoundException("Invalid case ID format: " + caseId);
         }
+
+        // One UPDATE ... WHERE id = ? AND version = ?, which evicts just this case from the
+        // second-level cache; a JPQL bulk update would clear every case out of it
+        int updated = caseJdbcWriter.patch(id, expectedVersion,
+                blankToNull(changes.getCaseNumber()),
+                blankToNull(changes.getTitle()),
+                changes.getDescription(),
+                changes.getStatus(),
+                changes.getDueDate(),
+                LocalDateTime.now());
+        if (updated == 0) {
+            if (myCaseRepository.existsById(id)) {
+                throw new CaseVersionConflictException("Case with ID " + caseId
+                        + " has been modified since version " + expectedVersion);
+            }
+            throw new CaseNotFoundException("Case with ID " + caseId + " not found");
+        }
+
+        Case patchedCase = myCaseRepository.findById(id)
+                .orElseThrow(() -> new CaseNotFoundException("Case with ID " + caseId + " not found"));
+        // The statement cannot say which status a status change replaced, so that is left unknown
+        // for the status counters to reconcile rather than read with a lock beforehand
+        eventPublisher.publishEvent(CaseChangedEvent.updated(patchedCase,
+                changes.getStatus() == null ? patchedCase.getStatus() : null));
+        return patchedCase;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.trim().isEmpty() ? null : value;
     }
 
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CASES_CACHE, key = CacheConfig.CASE_KEY)
     public void deleteCaseById(String caseId) {
         try {
             int id = Integer.parseInt(caseId);
+            // Loaded in the same transaction as the delete, which removes this very row
+            CaseStatus previousStatus = myCaseRepository.findById(id).map(Case::getStatus).orElse(null);
             myCaseRepository.deleteById(id);
+            eventPublisher.publishEvent(CaseChangedEvent.deleted(id, previousStatus));
         } catch (NumberFormatException e) {
             throw new CaseNotFoundException("Invalid case ID format: " + caseId);
         }
     }
 
-    public List<Case> getCasesByStatus(CaseStatus status) {
-        return myCaseRepository.findByStatus(status);
-    }
-
     public long countCasesByStatus(CaseStatus status) {
         return myCaseRepository.countByStatus(status);
     }
@@ -0,0 +1,251 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.datasource.PrimaryPin;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.models.CaseStatusCount;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Live number of cases in each status, so badge counts need no COUNT queries.
+ *
+ * <p>Each status has a {@link LongAdder}, which stripes concurrent increments across cells.
+ * The counters are seeded from one GROUP BY once the application is ready and adjusted after
+ * each create, status change or delete commits; a rolled back write never reaches them.
+ * Writes the service does not see (another instance, a manual fix) are corrected by a
+ * periodic reconciliation against the same GROUP BY, which also seeds them. A set-based write
+ * that cannot say which status it replaced marks the counters stale instead, and they are
+ * reconciled within seconds rather than at the next periodic run. A change whose
+ * event lands while the query runs may or may not be in its result, so a run that saw any is
+ * discarded and the query retried; only if every attempt sees changes are the recorded ones
+ * added to the last result, where a change committed just before the query can be counted
+ * twice until the next run puts it right.
+ */
+@Component
+public class CaseStatusCounters {
+
+    private static final Logger log = LoggerFactory.getLogger(CaseStatusCounters.class);
+
+    // Queries per reconciliation before falling back to adding the changes recorded alongside
+    private static final int RECONCILE_ATTEMPTS = 3;
+
+    private final Map<CaseStatus, LongAdder> counts = newCounters();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Counter corrections;
+
+    // Adjustments made while a reconciliation query is running; guarded by lock
+    private Recording inFlight;
+
+    @Autowired
+    private CaseRepository myCaseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private volatile boolean ready;
+    private volatile boolean stale;
+
+    public CaseStatusCounters(MeterRegistry registry) {
+        counts.forEach((status, count) -> Gauge.builder("cases.status.count", count, LongAdder::sum)
+                .description("Cases currently in each status")
+                .tag("status", status.name())
+                .register(registry));
+        corrections = Counter.builder("cases.status.count.corrections")
+                .description("Total drift between the status counters and the database fixed by reconciliation")
+                .register(registry);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Every status in declaration order, including those with no cases
+    public List<CaseStatusCount> counts() {
+        Map<CaseStatus, Long> current = new EnumMap<>(CaseStatus.class);
+        if (ready) {
+            counts.forEach((status, count) -> current.put(status, count.sum()));
+        } else {
+            current.putAll(queryCounts(null));
+        }
+        return Arrays.stream(CaseStatus.values())
+                .map(status -> new CaseStatusCount(status, current.getOrDefault(status, 0L)))
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+        ready = true;
+        log.info("Case status counters seeded: {}", counts);
+    }
+
+    @Scheduled(initialDelayString = "${cases.status-counts.reconcile-interval:5m}",
+               fixedDelayString = "${cases.status-counts.reconcile-interval:5m}")
+    public void scheduledReconcile() {
+        if (ready) {
+            reconcile();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${cases.status-counts.stale-delay:5s}",
+               fixedDelayString = "${cases.status-counts.stale-delay:5s}")
+    public void reconcileIfStale() {
+        if (ready && stale) {
+            // Cleared first, so a change that arrives while reconciling marks them stale again
+            stale = false;
+            reconcile();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCaseChanged(CaseChangedEvent event) {
+        CaseStatus current = event.current() != null ? event.current().getStatus() : null;
+        switch (event.type()) {
+            case CREATED -> adjust(current, 1);
+            case UPDATED -> {
+                // An update whose previous status is unknown is left for reconciliation
+                if (event.previousStatus() == null) {
+                    stale = true;
+                } else if (event.previousStatus() != current) {
+                    adjust(event.previousStatus(), -1);
+                    adjust(current, 1);
+                }
+            }
+            case DELETED -> adjust(event.previousStatus(), -1);
+        }
+    }
+
+    // Synchronized so the startup seed and a scheduled run never record side changes at the same time
+    public synchronized void reconcile() {
+        for (int attempt = 1; ; attempt++) {
+            Recording recording = new Recording();
+            Map<CaseStatus, Long> actual;
+            try {
+                actual = queryCounts(recording);
+            } catch (RuntimeException e) {
+                stopRecording();
+                throw e;
+            }
+            if (apply(actual, recording, attempt == RECONCILE_ATTEMPTS)) {
+                return;
+            }
+        }
+    }
+
+    // Corrects the counters from a query result, unless changes seen meanwhile leave it in doubt
+    // and a retry is still allowed; true once applied
+    private boolean apply(Map<CaseStatus, Long> actual, Recording recording, boolean lastAttempt) {
+        lock.writeLock().lock();
+        try {
+            inFlight = null;
+            long changes = recording.adjustments.sum();
+            if (changes > 0 && !lastAttempt) {
+                log.debug("Case status reconciliation saw {} concurrent adjustments; querying again", changes);
+                return false;
+            }
+            long drift = 0;
+            for (CaseStatus status : CaseStatus.values()) {
+                long expected = actual.getOrDefault(status, 0L) + recording.deltas.get(status).sum();
+                long difference = expected - counts.get(status).sum();
+                if (difference != 0) {
+                    counts.get(status).add(difference);
+                    drift += Math.abs(difference);
+                }
+            }
+            if (ready && drift > 0) {
+                corrections.increment(drift);
+                log.warn("Case status counters were {} off the database and have been corrected", drift);
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void adjust(CaseStatus status, long delta) {
+        if (status == null) {
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            counts.get(status).add(delta);
+            if (inFlight != null) {
+                inFlight.deltas.get(status).add(delta);
+                inFlight.adjustments.increment();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Runs the GROUP BY on the primary: a lagging replica would count the counters out of step.
+    // When recording is given, side changes are captured from just before the query starts
+    private Map<CaseStatus, Long> queryCounts(Recording recording) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        try (PrimaryPin.Scope ignored = PrimaryPin.enter()) {
+            return transaction.execute(status -> {
+                if (recording != null) {
+                    startRecording(recording);
+                }
+                Map<CaseStatus, Long> byStatus = new EnumMap<>(CaseStatus.class);
+                for (CaseStatusCount count : myCaseRepository.countGroupedByStatus()) {
+                    byStatus.put(count.status(), count.count());
+                }
+                return byStatus;
+            });
+        }
+    }
+
+    private void startRecording(Recording recording) {
+        lock.writeLock().lock();
+        try {
+            inFlight = recording;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void stopRecording() {
+        lock.writeLock().lock();
+        try {
+            inFlight = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Net adjustment per status made during one query, and how many adjustments there were
+    private static final class Recording {
+        private final Map<CaseStatus, LongAdder> deltas = newCounters();
+        private final LongAdder adjustments = new LongAdder();
+    }
+
+    private static Map<CaseStatus, LongAdder> newCounters() {
+        Map<CaseStatus, LongAdder> counters = new EnumMap<>(CaseStatus.class);
+        for (CaseStatus status : CaseStatus.values()) {
+            counters.put(status, new LongAdder());
+        }
+        return counters;
+    }
+}
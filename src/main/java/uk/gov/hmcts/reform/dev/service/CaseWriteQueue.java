@@ -0,0 +1,208 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.exception.CaseQueueFullException;
+import uk.gov.hmcts.reform.dev.exception.DuplicateCaseNumberException;
+import uk.gov.hmcts.reform.dev.models.BulkItemResult;
+import uk.gov.hmcts.reform.dev.models.BulkOutcome;
+import uk.gov.hmcts.reform.dev.models.BulkResponse;
+import uk.gov.hmcts.reform.dev.models.Case;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Write-behind path for single case creation. Callers enqueue onto a bounded lock-free queue
+ * and a single writer thread drains it into group commits through
+ * {@link CaseBulkService#createCases}, so a burst of POST /cases shares a few multi-row
+ * transactions instead of taking one connection and one commit each.
+ *
+ * <p>The writer starts a batch with the first case it finds and keeps collecting until the
+ * batch is full or the oldest case has waited {@code max-delay}. It writes the batch a chunk
+ * ({@code cases.batch.chunk-size}) at a time, so each caller's future completes once the chunk
+ * holding its case has committed, and a chunk that fails fails only its own cases. A future
+ * not completed within {@code timeout} fails with a {@link java.util.concurrent.TimeoutException}.
+ * When the queue is full new cases are refused with {@link CaseQueueFullException} (429) rather
+ * than queued without bound.
+ *
+ * <p>Submitters take no lock. A case that races {@link #stop} is taken back out of the queue
+ * and refused if the writer may already have made its last pass, so none is left unwritten.
+ */
+@Component
+@ConditionalOnProperty(name = "cases.write-behind.enabled", havingValue = "true")
+public class CaseWriteQueue {
+
+    private record PendingCase(Case myCase, long enqueuedNanos, CompletableFuture<Case> result) {
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(CaseWriteQueue.class);
+
+    private final ConcurrentLinkedQueue<PendingCase> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Autowired
+    private CaseBulkService caseBulkService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${cases.write-behind.capacity:10000}")
+    private int capacity;
+
+    @Value("${cases.write-behind.max-batch:200}")
+    private int maxBatch;
+
+    @Value("${cases.write-behind.max-delay:5ms}")
+    private Duration maxDelay;
+
+    @Value("${cases.write-behind.timeout:10s}")
+    private Duration timeout;
+
+    @Value("${cases.batch.chunk-size:50}")
+    private int chunkSize;
+
+    private Thread writer;
+    private DistributionSummary batchSizes;
+    private Timer commitLatency;
+    private Counter rejected;
+
+    @PostConstruct
+    public void start() {
+        batchSizes = DistributionSummary.builder("cases.write.behind.batch.size")
+                .description("Cases written per group commit")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        commitLatency = Timer.builder("cases.write.behind.latency")
+                .description("Time from enqueue until the case's batch has committed")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        rejected = Counter.builder("cases.write.behind.rejected")
+                .description("Cases refused because the write-behind queue was full")
+                .register(meterRegistry);
+        Gauge.builder("cases.write.behind.queue.depth", depth, AtomicInteger::get)
+                .description("Cases waiting to be written")
+                .register(meterRegistry);
+
+        running.set(true);
+        writer = Thread.ofPlatform().name("case-write-behind").daemon().start(this::drain);
+    }
+
+    // Stops accepting cases, then lets the writer flush whatever is already queued
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (running.compareAndSet(true, false)) {
+            LockSupport.unpark(writer);
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        }
+    }
+
+    public CompletableFuture<Case> submit(Case myCase) {
+        if (!running.get()) {
+            throw new CaseQueueFullException("Case intake is shutting down, please retry shortly");
+        }
+        if (depth.incrementAndGet() > capacity) {
+            depth.decrementAndGet();
+            rejected.increment();
+            throw new CaseQueueFullException("Case intake queue is full, please retry shortly");
+        }
+        PendingCase pending = new PendingCase(myCase, System.nanoTime(), new CompletableFuture<>());
+        queue.offer(pending);
+        // Stopped since the check above: the writer only exits once it has seen the flag cleared and
+        // the queue empty, so if the case is still queued it may never be written; take it back
+        if (!running.get() && queue.remove(pending)) {
+            depth.decrementAndGet();
+            throw new CaseQueueFullException("Case intake is shutting down, please retry shortly");
+        }
+        LockSupport.unpark(writer);
+        return pending.result().orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void drain() {
+        long maxDelayNanos = maxDelay.toNanos();
+        int batchLimit = Math.max(1, maxBatch);
+        List<PendingCase> batch = new ArrayList<>(batchLimit);
+        while (running.get() || !queue.isEmpty()) {
+            PendingCase first = queue.poll();
+            if (first == null) {
+                LockSupport.parkNanos(this, maxDelayNanos);
+                continue;
+            }
+            batch.add(first);
+            long deadline = first.enqueuedNanos() + maxDelayNanos;
+            while (batch.size() < batchLimit) {
+                PendingCase next = queue.poll();
+                if (next != null) {
+                    batch.add(next);
+                    continue;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !running.get()) {
+                    break;
+                }
+                LockSupport.parkNanos(this, remaining);
+            }
+            depth.addAndGet(-batch.size());
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<PendingCase> batch) {
+        batchSizes.record(batch.size());
+        int chunkLimit = Math.max(1, chunkSize);
+        for (int from = 0; from < batch.size(); from += chunkLimit) {
+            writeChunk(batch.subList(from, Math.min(from + chunkLimit, batch.size())));
+        }
+    }
+
+    private void writeChunk(List<PendingCase> chunk) {
+        try {
+            BulkResponse response = caseBulkService.createCases(chunk.stream().map(PendingCase::myCase).toList());
+            List<BulkItemResult> results = response.getResults();
+            for (int i = 0; i < chunk.size(); i++) {
+                complete(chunk.get(i), results.get(i));
+            }
+        } catch (Throwable e) {
+            // Anything escaping here, an Error included, would otherwise end the writer and strand every caller
+            log.error("Write-behind chunk of {} cases failed", chunk.size(), e);
+            for (PendingCase pending : chunk) {
+                pending.result().completeExceptionally(e);
+            }
+        }
+    }
+
+    private void complete(PendingCase pending, BulkItemResult result) {
+        commitLatency.record(System.nanoTime() - pending.enqueuedNanos(), TimeUnit.NANOSECONDS);
+        if (result.getOutcome() == BulkOutcome.CREATED) {
+            pending.result().complete(pending.myCase());
+        } else if (result.getOutcome() == BulkOutcome.DUPLICATE) {
+            // Same exception as the synchronous duplicate check, so callers see the same 409
+            pending.result().completeExceptionally(new DuplicateCaseNumberException(
+                    "Case number " + pending.myCase().getCaseNumber() + " already exists"));
+        } else {
+            pending.result().completeExceptionally(new DataIntegrityViolationException(
+                    result.getErrors() != null ? String.join("; ", result.getErrors()) : "Case could not be stored"));
+        }
+    }
+}
@@ -1,8 +1,11 @@
+CREATE SEQUENCE IF NOT EXISTS case_seq START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS cases (
-    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    id BIGINT DEFAULT NEXT VALUE FOR case_seq PRIMARY KEY,
     case_number VARCHAR(50) NOT NULL UNIQUE,
     title VARCHAR(255) NOT NULL,
     description CLOB,
     status VARCHAR(50) NOT NULL,
-    created_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    created_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT DEFAULT 0 NOT NULL
 );
\ No newline at end of file
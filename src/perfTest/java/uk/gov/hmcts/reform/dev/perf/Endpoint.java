@@ -0,0 +1,97 @@
+package uk.gov.hmcts.reform.dev.perf;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The case API routes the load generator exercises, each able to build a request
+ * against a seeded table of {@code rows} cases.
+ */
+enum Endpoint {
+
+    GET_CASE("GET /cases/{id}") {
+        @Override
+        HttpRequest.Builder request(String baseUrl, long rows, SplittableRandom random) {
+            return get(baseUrl + "/cases/" + randomId(rows, random));
+        }
+    },
+    LIST_PAGE("GET /cases?page") {
+        @Override
+        HttpRequest.Builder request(String baseUrl, long rows, SplittableRandom random) {
+            // Offset paging is only realistic near the front of the table
+            return get(baseUrl + "/cases?size=20&page=" + random.nextInt(50));
+        }
+    },
+    LIST_CURSOR("GET /cases?after") {
+        @Override
+        HttpRequest.Builder request(String baseUrl, long rows, SplittableRandom random) {
+            return get(baseUrl + "/cases?limit=20&after=" + randomId(rows, random));
+        }
+    },
+    BY_STATUS("GET /cases/status/{status}") {
+        @Override
+        HttpRequest.Builder request(String baseUrl, long rows, SplittableRandom random) {
+            String status = STATUSES[random.nextInt(STATUSES.length)];
+            return get(baseUrl + "/cases/status/" + status + "?size=20&after=" + randomId(rows, random));
+        }
+    },
+    SEARCH("GET /cases/search") {
+        @Override
+        HttpRequest.Builder request(String baseUrl, long rows, SplittableRandom random) {
+            String term = random.nextBoolean()
+                    ? PerfDataSeeder.WORDS[random.nextInt(PerfDataSeeder.WORDS.length)]
+                    : "PERF" + randomId(rows, random);
+            return get(baseUrl + "/cases/search?size=20&q=" + term);
+        }
+    },
+    CREATE("POST /cases") {
+        @Override
+        HttpRequest.Builder request(String baseUrl, long rows, SplittableRandom random) {
+            String body = "{\"caseNumber\":\"LOAD" + NEXT_CASE_NUMBER.incrementAndGet() + "\","
+                    + "\"title\":\"Load generated case\","
+                    + "\"description\":\"Created by the perf test\","
+                    + "\"status\":\"OPEN\","
+                    + "\"dueDate\":\"2099-01-01T00:00:00\"}";
+            return json(baseUrl + "/cases").POST(HttpRequest.BodyPublishers.ofString(body));
+        }
+    },
+    PATCH("PATCH /cases/{id}") {
+        @Override
+        HttpRequest.Builder request(String baseUrl, long rows, SplittableRandom random) {
+            String body = "{\"title\":\"Patched by perf test " + random.nextInt(1_000_000) + "\"}";
+            // Blind writes to random rows: without a read first there is no version to send
+            return json(baseUrl + "/cases/" + randomId(rows, random))
+                    .header("If-Match", "*")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(body));
+        }
+    };
+
+    private static final String[] STATUSES = {"OPEN", "IN_PROGRESS", "CLOSED", "CANCELLED"};
+    private static final AtomicLong NEXT_CASE_NUMBER = new AtomicLong();
+
+    private final String label;
+
+    Endpoint(String label) {
+        this.label = label;
+    }
+
+    String label() {
+        return label;
+    }
+
+    abstract HttpRequest.Builder request(String baseUrl, long rows, SplittableRandom random);
+
+    private static long randomId(long rows, SplittableRandom random) {
+        return 1 + random.nextLong(rows);
+    }
+
+    private static HttpRequest.Builder get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET();
+    }
+
+    private static HttpRequest.Builder json(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).header("Content-Type", "application/json");
+    }
+}
@@ -0,0 +1,93 @@
+package uk.gov.hmcts.reform.dev.perf;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint HDR histograms of response time in microseconds, measured from each request's
+ * scheduled start so queueing delay is included (no coordinated omission).
+ */
+final class LatencyReport {
+
+    private final Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> dropped = new EnumMap<>(Endpoint.class);
+
+    LatencyReport() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            histograms.put(endpoint, new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3));
+            errors.put(endpoint, new LongAdder());
+            dropped.put(endpoint, new LongAdder());
+        }
+    }
+
+    void record(Endpoint endpoint, long latencyNanos, boolean ok) {
+        Histogram histogram = histograms.get(endpoint);
+        long micros = TimeUnit.NANOSECONDS.toMicros(latencyNanos);
+        histogram.recordValue(Math.min(micros, histogram.getHighestTrackableValue()));
+        if (!ok) {
+            errors.get(endpoint).increment();
+        }
+    }
+
+    // The generator already had maxInFlight requests outstanding when this one was due
+    void dropped(Endpoint endpoint) {
+        dropped.get(endpoint).increment();
+    }
+
+    void print(PrintStream out, Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1e9;
+        out.printf(Locale.ROOT, "%-28s %9s %9s %8s %8s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "req/s",
+                   "errors", "dropped", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        Histogram total = new Histogram(3);
+        for (Map.Entry<Endpoint, Histogram> entry : histograms.entrySet()) {
+            Histogram histogram = entry.getValue();
+            if (histogram.getTotalCount() == 0 && dropped.get(entry.getKey()).sum() == 0) {
+                continue;
+            }
+            total.add(histogram);
+            printRow(out, entry.getKey().label(), histogram, seconds,
+                     errors.get(entry.getKey()).sum(), dropped.get(entry.getKey()).sum());
+        }
+        printRow(out, "all", total, seconds,
+                 errors.values().stream().mapToLong(LongAdder::sum).sum(),
+                 dropped.values().stream().mapToLong(LongAdder::sum).sum());
+    }
+
+    // One .hgrm percentile distribution per endpoint, in milliseconds, for HdrHistogram plotters
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<Endpoint, Histogram> entry : histograms.entrySet()) {
+            if (entry.getValue().getTotalCount() == 0) {
+                continue;
+            }
+            Path file = directory.resolve(entry.getKey().name().toLowerCase(Locale.ROOT) + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                entry.getValue().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private static void printRow(PrintStream out, String label, Histogram histogram, double seconds,
+                                 long errorCount, long droppedCount) {
+        out.printf(Locale.ROOT, "%-28s %9d %9.1f %8d %8d %9.2f %9.2f %9.2f %9.2f %9.2f%n", label,
+                   histogram.getTotalCount(), histogram.getTotalCount() / seconds, errorCount, droppedCount,
+                   millis(histogram, 50.0), millis(histogram, 90.0), millis(histogram, 99.0),
+                   millis(histogram, 99.9), histogram.getMaxValue() / 1000.0);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,75 @@
+package uk.gov.hmcts.reform.dev.perf;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load: requests are scheduled at a fixed arrival rate whatever the server's
+ * response time, as real traffic is, so a slow server builds a queue instead of quietly
+ * slowing the test down. The endpoint sequence comes from a seeded random, so a run with the
+ * same settings issues the same requests in the same order.
+ */
+final class LoadGenerator {
+
+    private final String baseUrl;
+    private final Scenario scenario;
+    private final long rows;
+    private final int maxInFlight;
+
+    LoadGenerator(String baseUrl, Scenario scenario, long rows, int maxInFlight) {
+        this.baseUrl = baseUrl;
+        this.scenario = scenario;
+        this.rows = rows;
+        this.maxInFlight = maxInFlight;
+    }
+
+    LatencyReport run(double requestsPerSecond, Duration duration, long seed) {
+        LatencyReport report = new LatencyReport();
+        SplittableRandom random = new SplittableRandom(seed);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long intervalNanos = (long) (1e9 / requestsPerSecond);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .executor(executor)
+                     .connectTimeout(Duration.ofSeconds(10))
+                     .build()) {
+            for (long i = 0; ; i++) {
+                long scheduled = start + i * intervalNanos;
+                if (scheduled >= end) {
+                    break;
+                }
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                Endpoint endpoint = scenario.pick(random);
+                HttpRequest request = endpoint.request(baseUrl, rows, random)
+                        .timeout(Duration.ofSeconds(30))
+                        .build();
+                if (!inFlight.tryAcquire()) {
+                    report.dropped(endpoint);
+                    continue;
+                }
+                client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, error) -> {
+                            report.record(endpoint, System.nanoTime() - scheduled,
+                                          error == null && response.statusCode() < 400);
+                            inFlight.release();
+                        });
+            }
+            inFlight.acquireUninterruptibly(maxInFlight);
+        }
+        return report;
+    }
+}
@@ -0,0 +1,60 @@
+package uk.gov.hmcts.reform.dev.perf;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Fills the cases table with generated rows using set-based INSERT ... SELECT over H2's
+ * SYSTEM_RANGE, which loads millions of rows in seconds. It runs as an ApplicationRunner so it
+ * finishes before ApplicationReadyEvent, when the in-memory search index is built.
+ *
+ * <p>Row {@code n} has case number {@code PERF<n>} and id {@code n}, so the load generator
+ * can address any seeded case without reading the table first.
+ */
+public class PerfDataSeeder implements ApplicationRunner {
+
+    static final String[] WORDS = {
+        "contract", "dispute", "tenancy", "employment", "tribunal", "appeal", "probate", "custody"
+    };
+
+    private static final long CHUNK = 100_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${perf.rows:100000}")
+    private long rows;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long started = System.nanoTime();
+        for (long from = 1; from <= rows; from += CHUNK) {
+            long to = Math.min(rows, from + CHUNK - 1);
+            jdbcTemplate.update("INSERT INTO cases (id, case_number, title, description, status, due_date, "
+                    + "created_date, updated_date, version) "
+                    + "SELECT X, 'PERF' || X, 'Perf " + wordFor("X") + " case ' || X, "
+                    + "'Seeded " + wordFor("X / 8") + " matter number ' || X, "
+                    + "CASE MOD(X, 4) WHEN 0 THEN 'OPEN' WHEN 1 THEN 'IN_PROGRESS' WHEN 2 THEN 'CLOSED' "
+                    + "ELSE 'CANCELLED' END, "
+                    + "DATEADD('DAY', 1 + MOD(X, 365), CURRENT_TIMESTAMP), "
+                    + "DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00'), "
+                    + "DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00'), 0 "
+                    + "FROM SYSTEM_RANGE(?, ?)", from, to);
+        }
+        // Move the id sequence past the seeded rows (with room for one pooled allocation)
+        jdbcTemplate.execute("ALTER SEQUENCE case_seq RESTART WITH " + (rows + 101));
+        System.out.printf("Seeded %,d cases in %.1f s%n", rows, (System.nanoTime() - started) / 1e9);
+    }
+
+    private static String wordFor(String expression) {
+        StringBuilder sql = new StringBuilder("' || CASE MOD(").append(expression).append(", ")
+                .append(WORDS.length).append(')');
+        for (int i = 0; i < WORDS.length; i++) {
+            sql.append(" WHEN ").append(i).append(" THEN '").append(WORDS[i]).append('\'');
+        }
+        return sql.append(" END || '").toString();
+    }
+}
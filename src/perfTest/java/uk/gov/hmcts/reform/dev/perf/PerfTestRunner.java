@@ -0,0 +1,80 @@
+package uk.gov.hmcts.reform.dev.perf;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import uk.gov.hmcts.reform.dev.Application;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Boots the application on a random port against an in-memory H2 database, seeds it, then
+ * drives a scenario at a fixed arrival rate and reports latency per endpoint.
+ *
+ * <p>Settings (system properties, passed through by {@code ./gradlew perf -D...}):
+ * <ul>
+ *   <li>{@code perf.rows} seeded cases (default 100000; 10M needs {@code -PperfHeap=16g})</li>
+ *   <li>{@code perf.scenario} mixed, read, write or search (default mixed)</li>
+ *   <li>{@code perf.rate} arrivals per second (default 500)</li>
+ *   <li>{@code perf.duration} and {@code perf.warmup} (defaults 60s and 15s)</li>
+ *   <li>{@code perf.seed} random seed for the request sequence (default 42)</li>
+ *   <li>{@code perf.maxInFlight} outstanding requests before arrivals are dropped (default 10000)</li>
+ *   <li>{@code perf.reportDir} where .hgrm files and the summary go (default build/reports/perf)</li>
+ * </ul>
+ * Application settings such as {@code -Dcases.search.mode=database} are passed through as well.
+ */
+public final class PerfTestRunner {
+
+    private PerfTestRunner() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        long rows = Long.getLong("perf.rows", 100_000);
+        Scenario scenario = Scenario.valueOf(System.getProperty("perf.scenario", "mixed").toUpperCase(Locale.ROOT));
+        double rate = Double.parseDouble(System.getProperty("perf.rate", "500"));
+        Duration duration = duration("perf.duration", "60s");
+        Duration warmup = duration("perf.warmup", "15s");
+        long seed = Long.getLong("perf.seed", 42);
+        int maxInFlight = Integer.getInteger("perf.maxInFlight", 10_000);
+        Path reportDir = Path.of(System.getProperty("perf.reportDir", "build/reports/perf"))
+                .resolve(scenario.name().toLowerCase(Locale.ROOT));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class,
+                                                                                   PerfDataSeeder.class).run(
+                "--server.port=0",
+                "--spring.datasource.jdbc-url=jdbc:h2:mem:perf;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+                "--spring.sql.init.mode=never",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--logging.level.root=WARN",
+                "--perf.rows=" + rows)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadGenerator generator = new LoadGenerator("http://localhost:" + port, scenario, rows, maxInFlight);
+
+            if (!warmup.isZero()) {
+                System.out.printf("Warming up for %s at %.0f req/s%n", warmup, rate);
+                generator.run(rate, warmup, seed + 1);
+            }
+            System.out.printf("Running %s for %s at %.0f req/s against %,d cases%n", scenario, duration, rate, rows);
+            LatencyReport report = generator.run(rate, duration, seed);
+
+            report.print(System.out, duration);
+            report.write(reportDir);
+            try (PrintStream summary = new PrintStream(Files.newOutputStream(reportDir.resolve("summary.txt")))) {
+                summary.printf(Locale.ROOT, "scenario=%s rows=%d rate=%.1f duration=%s seed=%d%n",
+                               scenario, rows, rate, duration, seed);
+                report.print(summary, duration);
+            }
+            System.out.println("Histograms written to " + reportDir.toAbsolutePath());
+        }
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        return Duration.parse("PT" + System.getProperty(property, defaultValue));
+    }
+}
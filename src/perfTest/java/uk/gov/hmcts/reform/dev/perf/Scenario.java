@@ -0,0 +1,47 @@
+package uk.gov.hmcts.reform.dev.perf;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Named request mixes. Weights are relative; each arrival picks an endpoint with probability
+ * proportional to its weight.
+ */
+enum Scenario {
+
+    MIXED(Map.of(Endpoint.GET_CASE, 45, Endpoint.LIST_PAGE, 5, Endpoint.LIST_CURSOR, 10,
+                 Endpoint.BY_STATUS, 5, Endpoint.SEARCH, 15, Endpoint.CREATE, 12, Endpoint.PATCH, 8)),
+    READ(Map.of(Endpoint.GET_CASE, 60, Endpoint.LIST_PAGE, 10, Endpoint.LIST_CURSOR, 20, Endpoint.BY_STATUS, 10)),
+    WRITE(Map.of(Endpoint.CREATE, 60, Endpoint.PATCH, 40)),
+    SEARCH(Map.of(Endpoint.SEARCH, 100));
+
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+
+    Scenario(Map<Endpoint, Integer> weights) {
+        // EnumMap iterates in declaration order, so a given seed always yields the same sequence
+        Map<Endpoint, Integer> ordered = new EnumMap<>(weights);
+        endpoints = ordered.keySet().toArray(Endpoint[]::new);
+        cumulativeWeights = new int[endpoints.length];
+        int total = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            total += ordered.get(endpoints[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    Endpoint[] endpoints() {
+        return endpoints.clone();
+    }
+
+    Endpoint pick(SplittableRandom random) {
+        int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        throw new IllegalStateException("Weights do not cover roll " + roll);
+    }
+}
@@ -0,0 +1,193 @@
+package uk.gov.hmcts.reform.dev.perf;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Launches the packaged application in a fresh JVM several times per launch mode and times
+ * each run from process start to the first successful response, which is what a newly scaled
+ * replica waits for before it takes traffic. The modes are:
+ * <ul>
+ *   <li>{@code baseline} test-backend.jar with the default settings</li>
+ *   <li>{@code fast-startup} the same jar with the fast-startup profile</li>
+ *   <li>{@code cds} the extracted jar from {@code ./gradlew cdsArchive} with its class-data-sharing
+ *       archive, also on the fast-startup profile</li>
+ * </ul>
+ * A mode whose jar or archive is missing is skipped.
+ *
+ * <p>Settings (system properties, passed through by {@code ./gradlew startupBench -D...}):
+ * <ul>
+ *   <li>{@code startup.jar} and {@code startup.cdsDir} the boot jar and extracted CDS layout (set by Gradle)</li>
+ *   <li>{@code startup.aot} also start the profiled modes with Spring AOT (set by {@code -Paot})</li>
+ *   <li>{@code startup.modes} comma-separated modes to run (default all three)</li>
+ *   <li>{@code startup.runs} launches per mode (default 5, after one discarded warm-up launch)</li>
+ *   <li>{@code startup.path} request that counts as the first one (default /case-statuses)</li>
+ *   <li>{@code startup.timeout} longest to wait for a launch to answer (default 120s)</li>
+ *   <li>{@code startup.reportDir} where launch logs and the summary go (default build/reports/startup)</li>
+ * </ul>
+ */
+public final class StartupBenchmark {
+
+    // Spring Boot's own figure, logged once the context is refreshed and the runners have run
+    private static final Pattern STARTED = Pattern.compile("Started \\S+ in ([0-9.]+) seconds");
+
+    private StartupBenchmark() {
+    }
+
+    private record Mode(String name, Path jar, List<String> jvmArgs, List<String> appArgs) {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Path jar = Path.of(System.getProperty("startup.jar", "build/libs/test-backend.jar"));
+        Path cdsDir = Path.of(System.getProperty("startup.cdsDir", "build/cds"));
+        boolean aot = Boolean.getBoolean("startup.aot");
+        List<String> selected = Arrays.asList(System.getProperty("startup.modes", "baseline,fast-startup,cds")
+                                                      .split(","));
+        int runs = Integer.getInteger("startup.runs", 5);
+        String path = System.getProperty("startup.path", "/case-statuses");
+        Duration timeout = Duration.parse("PT" + System.getProperty("startup.timeout", "120s"));
+        Path reportDir = Path.of(System.getProperty("startup.reportDir", "build/reports/startup"));
+        Files.createDirectories(reportDir);
+
+        List<String> profiled = new ArrayList<>();
+        if (aot) {
+            profiled.add("-Dspring.aot.enabled=true");
+        }
+        List<String> cdsArgs = new ArrayList<>(profiled);
+        cdsArgs.add("-XX:SharedArchiveFile=" + cdsDir.toAbsolutePath().resolve("application.jsa"));
+        List<Mode> modes = List.of(
+                new Mode("baseline", jar, List.of(), List.of()),
+                new Mode("fast-startup", jar, profiled, List.of("--spring.profiles.active=fast-startup")),
+                new Mode("cds", cdsDir.resolve(jar.getFileName()), cdsArgs,
+                         List.of("--spring.profiles.active=fast-startup")));
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(1))
+                .build();
+        try (PrintStream summary = new PrintStream(Files.newOutputStream(reportDir.resolve("summary.txt")))) {
+            summary.printf(Locale.ROOT, "runs=%d path=%s aot=%s java=%s%n",
+                           runs, path, aot, System.getProperty("java.version"));
+            for (Mode mode : modes) {
+                if (!selected.contains(mode.name())) {
+                    continue;
+                }
+                if (!Files.exists(mode.jar()) || mode.name().equals("cds")
+                        && !Files.exists(cdsDir.resolve("application.jsa"))) {
+                    System.out.printf("Skipping %s: %s not built%n", mode.name(), mode.jar().getParent());
+                    continue;
+                }
+                // The first launch pays for cold disk caches, not for anything the mode changes
+                launch(mode, client, path, timeout, reportDir.resolve(mode.name() + "-warmup.log"));
+                long[] firstRequest = new long[runs];
+                double[] started = new double[runs];
+                for (int run = 0; run < runs; run++) {
+                    Path logFile = reportDir.resolve(mode.name() + "-" + (run + 1) + ".log");
+                    firstRequest[run] = launch(mode, client, path, timeout, logFile);
+                    started[run] = reportedStartup(logFile);
+                }
+                String line = String.format(Locale.ROOT,
+                        "%-13s first request ms: min %d median %d max %d | Spring-reported start s: median %.3f",
+                        mode.name(), min(firstRequest), median(firstRequest), max(firstRequest), median(started));
+                System.out.println(line);
+                summary.println(line);
+            }
+        }
+        System.out.println("Launch logs and summary written to " + reportDir.toAbsolutePath());
+    }
+
+    // Milliseconds from starting the JVM to the first 2xx answer on path
+    private static long launch(Mode mode, HttpClient client, String path, Duration timeout, Path logFile)
+            throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(mode.jvmArgs());
+        command.add("-jar");
+        command.add(mode.jar().getFileName().toString());
+        command.add("--server.port=" + port);
+        command.addAll(mode.appArgs());
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+        // CDS archives record the class path as given, so launch from the jar's directory with a relative path
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .directory(mode.jar().toAbsolutePath().getParent().toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile());
+        long start = System.nanoTime();
+        Process process = builder.start();
+        try {
+            long deadline = start + timeout.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(mode.name() + " exited with " + process.exitValue()
+                                                            + "; see " + logFile);
+                }
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() / 100 == 2) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (IOException e) {
+                    // Not listening yet, or the connection was dropped while the server started
+                }
+                Thread.sleep(5);
+            }
+            throw new IllegalStateException(mode.name() + " did not answer " + path + " within " + timeout
+                                                    + "; see " + logFile);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static double reportedStartup(Path logFile) throws IOException {
+        Matcher matcher = STARTED.matcher(Files.readString(logFile));
+        return matcher.find() ? Double.parseDouble(matcher.group(1)) : Double.NaN;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long min(long[] values) {
+        return Arrays.stream(values).min().orElse(0);
+    }
+
+    private static long max(long[] values) {
+        return Arrays.stream(values).max().orElse(0);
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted.length == 0 ? 0 : sorted[sorted.length / 2];
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted.length == 0 ? Double.NaN : sorted[sorted.length / 2];
+    }
+}
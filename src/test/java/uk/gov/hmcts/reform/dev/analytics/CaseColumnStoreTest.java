@@ -0,0 +1,151 @@
+package uk.gov.hmcts.reform.dev.analytics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.exception.InvalidRequestParameterException;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseStats;
+import uk.gov.hmcts.reform.dev.models.CaseStatsGroup;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.service.CaseScanner;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CaseColumnStoreTest {
+
+    // A Wednesday, so the due week starts on Monday 2025-03-10
+    private static final LocalDateTime WEDNESDAY = LocalDateTime.of(2025, 3, 12, 9, 30);
+
+    @Test
+    void shouldCountByStatus() {
+        CaseColumnStore store = new CaseColumnStore();
+        store.upsert(newCase(1, CaseStatus.OPEN, WEDNESDAY, WEDNESDAY));
+        store.upsert(newCase(2, CaseStatus.OPEN, WEDNESDAY, WEDNESDAY));
+        store.upsert(newCase(3, CaseStatus.CLOSED, WEDNESDAY, WEDNESDAY));
+
+        CaseStats stats = store.stats(EnumSet.of(StatsDimension.STATUS), null, null);
+
+        assertThat(stats.total()).isEqualTo(3);
+        assertThat(stats.groups()).containsExactly(
+                new CaseStatsGroup(CaseStatus.OPEN, null, null, 2),
+                new CaseStatsGroup(CaseStatus.CLOSED, null, null, 1));
+    }
+
+    @Test
+    void shouldGroupByCreatedDayAndMondayOfDueWeek() {
+        CaseColumnStore store = new CaseColumnStore();
+        store.upsert(newCase(1, CaseStatus.OPEN, WEDNESDAY, WEDNESDAY));
+        store.upsert(newCase(2, CaseStatus.OPEN, WEDNESDAY.plusHours(10), WEDNESDAY.plusDays(4)));
+        store.upsert(newCase(3, CaseStatus.OPEN, WEDNESDAY.plusDays(1), WEDNESDAY.plusDays(5)));
+
+        CaseStats stats = store.stats(EnumSet.of(StatsDimension.CREATED_DAY, StatsDimension.DUE_WEEK), null, null);
+
+        assertThat(stats.groups()).containsExactly(
+                new CaseStatsGroup(null, LocalDate.of(2025, 3, 12), LocalDate.of(2025, 3, 10), 2),
+                new CaseStatsGroup(null, LocalDate.of(2025, 3, 13), LocalDate.of(2025, 3, 17), 1));
+    }
+
+    @Test
+    void shouldFilterOnHalfOpenCreationRange() {
+        CaseColumnStore store = new CaseColumnStore();
+        store.upsert(newCase(1, CaseStatus.OPEN, WEDNESDAY.minusSeconds(1), WEDNESDAY));
+        store.upsert(newCase(2, CaseStatus.OPEN, WEDNESDAY, WEDNESDAY));
+        store.upsert(newCase(3, CaseStatus.OPEN, WEDNESDAY.plusDays(1), WEDNESDAY));
+
+        CaseStats stats = store.stats(Set.of(), WEDNESDAY, WEDNESDAY.plusDays(1));
+
+        assertThat(stats.total()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFollowUpdatesAndDeletes() {
+        CaseColumnStore store = new CaseColumnStore();
+        store.upsert(newCase(1, CaseStatus.OPEN, WEDNESDAY, WEDNESDAY));
+        store.upsert(newCase(2, CaseStatus.OPEN, WEDNESDAY, WEDNESDAY));
+
+        store.onCaseChanged(CaseChangedEvent.updated(newCase(1, CaseStatus.CLOSED, WEDNESDAY, WEDNESDAY),
+                                                     CaseStatus.OPEN));
+        store.onCaseChanged(CaseChangedEvent.deleted(2, CaseStatus.OPEN));
+        store.onCaseChanged(CaseChangedEvent.created(newCase(3, CaseStatus.CANCELLED, WEDNESDAY, WEDNESDAY)));
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.stats(EnumSet.of(StatsDimension.STATUS), null, null).groups()).containsExactly(
+                new CaseStatsGroup(CaseStatus.CLOSED, null, null, 1),
+                new CaseStatsGroup(CaseStatus.CANCELLED, null, null, 1));
+    }
+
+    @Test
+    void shouldApplyChangesMadeDuringRebuildAfterTheScan() {
+        CaseScanner scanner = mock(CaseScanner.class);
+        CaseColumnStore store = new CaseColumnStore();
+        ReflectionTestUtils.setField(store, "caseScanner", scanner);
+        when(scanner.forEachCase(any())).thenAnswer(invocation -> {
+            Consumer<Case> action = invocation.getArgument(0);
+            // Both changes commit mid-scan, before the scan reaches the rows they touched
+            store.onCaseChanged(CaseChangedEvent.deleted(1, CaseStatus.OPEN));
+            store.onCaseChanged(CaseChangedEvent.updated(newCase(2, CaseStatus.CLOSED, WEDNESDAY, WEDNESDAY),
+                                                         CaseStatus.OPEN));
+            action.accept(newCase(1, CaseStatus.OPEN, WEDNESDAY, WEDNESDAY));
+            action.accept(newCase(2, CaseStatus.OPEN, WEDNESDAY, WEDNESDAY));
+            return 2L;
+        });
+
+        store.rebuild();
+
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.stats(EnumSet.of(StatsDimension.STATUS), null, null).groups()).containsExactly(
+                new CaseStatsGroup(CaseStatus.CLOSED, null, null, 1));
+        assertThat(store.isReady()).isTrue();
+    }
+
+    @Test
+    void shouldAgreeWithExpectedCountsAcrossParallelScan() {
+        CaseColumnStore store = new CaseColumnStore();
+        int cases = 200_000;
+        for (int id = 1; id <= cases; id++) {
+            CaseStatus status = CaseStatus.values()[id % CaseStatus.values().length];
+            store.upsert(newCase(id, status, WEDNESDAY.plusDays(id % 7), WEDNESDAY.plusDays(id % 30)));
+        }
+        // Every third case deleted, exercising index removal
+        for (int id = 3; id <= cases; id += 3) {
+            store.remove(id);
+        }
+
+        CaseStats stats = store.stats(EnumSet.allOf(StatsDimension.class), null, null);
+
+        long expected = cases - cases / 3;
+        assertThat(store.size()).isEqualTo((int) expected);
+        assertThat(stats.total()).isEqualTo(expected);
+        assertThat(stats.groups().stream().mapToLong(CaseStatsGroup::count).sum()).isEqualTo(expected);
+        assertThat(store.stats(Set.of(), null, null).total()).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldRejectUnknownDimension() {
+        assertThat(StatsDimension.parse("status, dueweek"))
+                .containsExactly(StatsDimension.STATUS, StatsDimension.DUE_WEEK);
+        assertThatThrownBy(() -> StatsDimension.parse("status,owner"))
+                .isInstanceOf(InvalidRequestParameterException.class);
+    }
+
+    private static Case newCase(int id, CaseStatus status, LocalDateTime created, LocalDateTime due) {
+        return Case.builder()
+                .id(id)
+                .caseNumber("CASE" + id)
+                .status(status)
+                .createdDate(created)
+                .dueDate(due)
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package uk.gov.hmcts.reform.dev.bulkhead;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import uk.gov.hmcts.reform.dev.datasource.ReadWriteRoutingDataSource;
+import uk.gov.hmcts.reform.dev.exception.BulkheadFullException;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DatabaseBulkheadTest {
+
+    private SimpleMeterRegistry registry;
+    private DatabaseBulkhead bulkhead;
+
+    @BeforeEach
+    void setUp() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(1);
+        registry = new SimpleMeterRegistry();
+        bulkhead = new DatabaseBulkhead(dataSource, registry, Duration.ofMillis(20), false);
+    }
+
+    @Test
+    void limit_PermitsFollowPoolSize() throws Throwable {
+        ProceedingJoinPoint inner = mock(ProceedingJoinPoint.class);
+        when(inner.proceed()).thenReturn("inner");
+        ProceedingJoinPoint outer = mock(ProceedingJoinPoint.class);
+        when(outer.proceed()).thenAnswer(invocation -> bulkhead.limit(inner));
+
+        // The outer call holds the only permit, so the inner call times out
+        assertThrows(BulkheadFullException.class, () -> bulkhead.limit(outer));
+
+        assertEquals("inner", bulkhead.limit(inner));
+        assertEquals(1.0, registry.get("cases.bulkhead.available").gauge().value());
+    }
+
+    @Test
+    void limit_ReleasesPermitWhenCallFails() throws Throwable {
+        ProceedingJoinPoint failing = mock(ProceedingJoinPoint.class);
+        when(failing.proceed()).thenThrow(new IllegalStateException("boom"));
+
+        assertThrows(IllegalStateException.class, () -> bulkhead.limit(failing));
+
+        assertEquals(1.0, registry.get("cases.bulkhead.available").gauge().value());
+    }
+
+    @Test
+    void limitCreate_TakesPermitUnlessWriteBehindIsOn() throws Throwable {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(1);
+        DatabaseBulkhead writeBehindBulkhead = new DatabaseBulkhead(dataSource, new SimpleMeterRegistry(),
+                                                                    Duration.ofMillis(20), true);
+        ProceedingJoinPoint create = mock(ProceedingJoinPoint.class);
+        when(create.proceed()).thenReturn("created");
+        ProceedingJoinPoint holder = mock(ProceedingJoinPoint.class);
+        when(holder.proceed()).thenAnswer(invocation -> bulkhead.limitCreate(create));
+        ProceedingJoinPoint writeBehindHolder = mock(ProceedingJoinPoint.class);
+        when(writeBehindHolder.proceed()).thenAnswer(invocation -> writeBehindBulkhead.limitCreate(create));
+
+        // Without write-behind a create needs the permit the holder has; with it, none at all
+        assertThrows(BulkheadFullException.class, () -> bulkhead.limit(holder));
+        assertEquals("created", writeBehindBulkhead.limit(writeBehindHolder));
+    }
+
+    @Test
+    void permits_FollowPrimaryPoolBehindReadReplicaRouting() {
+        HikariDataSource primary = new HikariDataSource();
+        primary.setMaximumPoolSize(3);
+        HikariDataSource replica = new HikariDataSource();
+        replica.setMaximumPoolSize(20);
+        SimpleMeterRegistry routedRegistry = new SimpleMeterRegistry();
+
+        new DatabaseBulkhead(new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica)),
+                             routedRegistry, Duration.ofMillis(20), false);
+
+        assertEquals(3.0, routedRegistry.get("cases.bulkhead.available").gauge().value());
+    }
+}
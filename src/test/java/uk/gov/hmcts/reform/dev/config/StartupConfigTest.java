@@ -0,0 +1,48 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartupConfigTest {
+
+    private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+    @BeforeEach
+    void setUp() {
+        register("swaggerWelcome", "org.springdoc.webmvc.ui.SwaggerWelcomeWebMvc");
+        register("springDocConfiguration", "org.springdoc.core.configuration.SpringDocConfiguration");
+        beanFactory.registerBeanDefinition("openApiResource", BeanDefinitionBuilder.genericBeanDefinition()
+                .setFactoryMethodOnBean("openApiResource", "springDocConfiguration")
+                .getBeanDefinition());
+        register("caseController", "uk.gov.hmcts.reform.dev.controllers.CaseController");
+        register("lookalike", "org.springdocs.Lookalike");
+    }
+
+    @Test
+    void shouldMakeBeansDeclaredInListedPackagesLazy() {
+        int lazy = StartupConfig.makeLazy(beanFactory, List.of("org.springdoc"));
+
+        assertThat(lazy).isEqualTo(3);
+        assertThat(beanFactory.getBeanDefinition("swaggerWelcome").isLazyInit()).isTrue();
+        assertThat(beanFactory.getBeanDefinition("openApiResource").isLazyInit()).isTrue();
+        assertThat(beanFactory.getBeanDefinition("caseController").isLazyInit()).isFalse();
+        assertThat(beanFactory.getBeanDefinition("lookalike").isLazyInit()).isFalse();
+    }
+
+    @Test
+    void shouldLeaveEveryBeanEagerWithoutPackages() {
+        assertThat(StartupConfig.makeLazy(beanFactory, List.of())).isZero();
+        assertThat(beanFactory.getBeanDefinition("swaggerWelcome").isLazyInit()).isFalse();
+    }
+
+    private void register(String name, String className) {
+        beanFactory.registerBeanDefinition(name, BeanDefinitionBuilder.genericBeanDefinition(className)
+                .getBeanDefinition());
+    }
+}
@@ -0,0 +1,128 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.hmcts.reform.dev.exception.BatchTooLargeException;
+import uk.gov.hmcts.reform.dev.models.BulkItemResult;
+import uk.gov.hmcts.reform.dev.models.BulkOutcome;
+import uk.gov.hmcts.reform.dev.models.BulkResponse;
+import uk.gov.hmcts.reform.dev.models.CaseFixtures;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.service.CaseBulkService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = CaseBulkController.class)
+@Import(ControllerTestConfig.class)
+class CaseBulkControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private CaseBulkService caseBulkService;
+
+    @Test
+    void createCases_ShouldReturnCreatedWhenEveryCaseIsStored() throws Exception {
+        when(caseBulkService.createCases(anyList())).thenReturn(response(BulkOutcome.CREATED, BulkOutcome.CREATED));
+
+        mockMvc.perform(post("/cases/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(
+                        CaseFixtures.newCase("BATCH1").build(), CaseFixtures.newCase("BATCH2").build()))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.succeeded").value(2));
+    }
+
+    @Test
+    void createCases_ShouldReturnMultiStatusWhenSomeAreRejected() throws Exception {
+        when(caseBulkService.createCases(anyList())).thenReturn(response(BulkOutcome.CREATED, BulkOutcome.DUPLICATE));
+
+        mockMvc.perform(post("/cases/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(
+                        CaseFixtures.newCase("BATCH1").build(), CaseFixtures.newCase("BATCH1").build()))))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.results[1].outcome").value("DUPLICATE"));
+    }
+
+    @Test
+    void createCasesOverTheLimit_ShouldReturnPayloadTooLarge() throws Exception {
+        when(caseBulkService.createCases(anyList()))
+                .thenThrow(new BatchTooLargeException("A batch may contain at most 1000 cases"));
+
+        mockMvc.perform(post("/cases/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.error").value("Batch Too Large"));
+    }
+
+    @Test
+    void transitionStatusWithoutStatus_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/cases/status-transitions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": [1, 2]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Validation Failed"));
+
+        verify(caseBulkService, never()).transitionStatus(any(), any());
+    }
+
+    @Test
+    void transitionStatus_ShouldReturnOkWhenEveryIdSucceeds() throws Exception {
+        when(caseBulkService.transitionStatus(List.of(1, 2), CaseStatus.CLOSED))
+                .thenReturn(response(BulkOutcome.UPDATED, BulkOutcome.UNCHANGED));
+
+        mockMvc.perform(post("/cases/status-transitions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": [1, 2], \"status\": \"CLOSED\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].outcome").value("UPDATED"));
+    }
+
+    @Test
+    void deleteCases_ShouldReturnMultiStatusWhenSomeAreMissing() throws Exception {
+        when(caseBulkService.deleteCases(List.of(1, 2)))
+                .thenReturn(response(BulkOutcome.DELETED, BulkOutcome.NOT_FOUND));
+
+        mockMvc.perform(delete("/cases").param("ids", "1,2"))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[1].outcome").value("NOT_FOUND"));
+    }
+
+    private static BulkResponse response(BulkOutcome... outcomes) {
+        List<BulkItemResult> results = new ArrayList<>();
+        int succeeded = 0;
+        for (int i = 0; i < outcomes.length; i++) {
+            results.add(BulkItemResult.builder().index(i).outcome(outcomes[i]).build());
+            succeeded += outcomes[i].isSuccess() ? 1 : 0;
+        }
+        return BulkResponse.builder()
+                .succeeded(succeeded)
+                .failed(outcomes.length - succeeded)
+                .results(results)
+                .build();
+    }
+}
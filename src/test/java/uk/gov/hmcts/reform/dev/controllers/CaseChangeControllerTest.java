@@ -0,0 +1,76 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.feed.CaseChangeFeed;
+import uk.gov.hmcts.reform.dev.models.CaseFixtures;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@WebMvcTest(controllers = CaseChangeController.class)
+@Import({ ControllerTestConfig.class, CaseChangeControllerTest.FeedConfig.class })
+class CaseChangeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CaseChangeFeed caseChangeFeed;
+
+    // The real feed, so the test drives it the way committed changes do
+    @TestConfiguration
+    static class FeedConfig {
+
+        @Bean
+        public CaseChangeFeed caseChangeFeed() {
+            return new CaseChangeFeed(ControllerTestConfig.METER_REGISTRY, 100, Duration.ofMinutes(1),
+                                      Duration.ofMinutes(1));
+        }
+    }
+
+    @Test
+    void streamChanges_ShouldSendCommittedChangesAsEvents() throws Exception {
+        MvcResult result = mockMvc.perform(get("/cases/changes"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        caseChangeFeed.onCaseChanged(CaseChangedEvent.created(CaseFixtures.storedCase(77, "FEED77").build()));
+
+        String body = awaitBody(result, "FEED77");
+        assertTrue(body.contains("\"type\":\"CREATED\""), body);
+        assertTrue(body.contains("\"caseId\":77"), body);
+        assertTrue(body.contains("id:"), body);
+    }
+
+    @Test
+    void streamChangesWithStaleLastEventId_ShouldSendReset() throws Exception {
+        MvcResult result = mockMvc.perform(get("/cases/changes").header("Last-Event-ID", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertTrue(awaitBody(result, "event:reset").contains("event:reset"));
+    }
+
+    // The stream never completes, so read what has been written so far
+    private static String awaitBody(MvcResult result, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String body = result.getResponse().getContentAsString();
+        while (!body.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            body = result.getResponse().getContentAsString();
+        }
+        return body;
+    }
+}
@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.hmcts.reform.dev.deadline.CaseDeadlineService;
+import uk.gov.hmcts.reform.dev.exception.InvalidRequestParameterException;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.models.CaseSummary;
+import uk.gov.hmcts.reform.dev.models.PagedResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = CaseDeadlineController.class)
+@Import(ControllerTestConfig.class)
+class CaseDeadlineControllerTest {
+
+    private static final CaseSummary DUE = new CaseSummary(5, "DUE123", "Due Case", CaseStatus.OPEN,
+            LocalDateTime.of(2030, 1, 1, 9, 0), null, null);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private CaseDeadlineService caseDeadlineService;
+
+    @Test
+    void getCasesDue_ShouldPassFiltersToDeadlineService() throws Exception {
+        when(caseDeadlineService.dueBefore("2030-02-01T00:00", CaseStatus.OPEN, 10, null))
+                .thenReturn(new PagedResponse<>(List.of(DUE), 10, null));
+
+        mockMvc.perform(get("/cases/due")
+                .param("before", "2030-02-01T00:00")
+                .param("status", "OPEN")
+                .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].caseNumber").value("DUE123"));
+    }
+
+    @Test
+    void getCasesDueWithInvalidBefore_ShouldReturnInvalidParameter() throws Exception {
+        when(caseDeadlineService.dueBefore("tomorrow", null, 20, null))
+                .thenThrow(new InvalidRequestParameterException("Invalid before: tomorrow"));
+
+        mockMvc.perform(get("/cases/due").param("before", "tomorrow"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid Parameter"))
+                .andExpect(jsonPath("$.message").value("Invalid before: tomorrow"));
+    }
+
+    @Test
+    void getOverdueCases_ShouldPassDefaultsToDeadlineService() throws Exception {
+        when(caseDeadlineService.overdue(null, 20, null))
+                .thenReturn(new PagedResponse<>(List.of(DUE), 20, "2030-01-01T09:00,5"));
+
+        mockMvc.perform(get("/cases/overdue"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(5))
+                .andExpect(jsonPath("$.nextCursor").value("2030-01-01T09:00,5"));
+    }
+}
@@ -0,0 +1,74 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.hmcts.reform.dev.analytics.CaseStatsService;
+import uk.gov.hmcts.reform.dev.exception.InvalidRequestParameterException;
+import uk.gov.hmcts.reform.dev.models.CaseStats;
+import uk.gov.hmcts.reform.dev.models.CaseStatsGroup;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.models.CaseStatusCount;
+import uk.gov.hmcts.reform.dev.service.CaseStatusCounters;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = CaseStatsController.class)
+@Import(ControllerTestConfig.class)
+class CaseStatsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private CaseStatsService caseStatsService;
+
+    @MockitoBean
+    private CaseStatusCounters caseStatusCounters;
+
+    @Test
+    void getCaseStats_ShouldReturnGroupedCounts() throws Exception {
+        when(caseStatsService.stats("status", null, null)).thenReturn(new CaseStats(3, List.of(
+                new CaseStatsGroup(CaseStatus.OPEN, null, null, 2),
+                new CaseStatsGroup(CaseStatus.CLOSED, null, null, 1))));
+
+        mockMvc.perform(get("/cases/stats").param("groupBy", "status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.groups[0].status").value("OPEN"))
+                .andExpect(jsonPath("$.groups[0].count").value(2))
+                .andExpect(jsonPath("$.groups[0].createdDay").doesNotExist());
+    }
+
+    @Test
+    void getCaseStatsWithUnknownDimension_ShouldReturnInvalidParameter() throws Exception {
+        when(caseStatsService.stats("owner", null, null))
+                .thenThrow(new InvalidRequestParameterException("Invalid groupBy: owner"));
+
+        mockMvc.perform(get("/cases/stats").param("groupBy", "owner"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid Parameter"))
+                .andExpect(jsonPath("$.message").value("Invalid groupBy: owner"));
+    }
+
+    @Test
+    void getCaseStatuses_ShouldReturnEveryStatusWithItsCount() throws Exception {
+        when(caseStatusCounters.counts()).thenReturn(List.of(
+                new CaseStatusCount(CaseStatus.OPEN, 4),
+                new CaseStatusCount(CaseStatus.IN_PROGRESS, 0)));
+
+        mockMvc.perform(get("/case-statuses"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("OPEN"))
+                .andExpect(jsonPath("$[0].count").value(4))
+                .andExpect(jsonPath("$[1].count").value(0));
+    }
+}
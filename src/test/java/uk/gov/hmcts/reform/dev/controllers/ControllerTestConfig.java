@@ -0,0 +1,24 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import uk.gov.hmcts.reform.dev.exception.GlobalExceptionHandler;
+import uk.gov.hmcts.reform.dev.metrics.CaseMetrics;
+
+/**
+ * What every controller slice test needs besides its controller's own dependencies: the
+ * exception handler and the counters it records into.
+ */
+@TestConfiguration
+@Import(GlobalExceptionHandler.class)
+public class ControllerTestConfig {
+
+    public static final SimpleMeterRegistry METER_REGISTRY = new SimpleMeterRegistry();
+
+    @Bean
+    public CaseMetrics caseMetrics() {
+        return new CaseMetrics(METER_REGISTRY);
+    }
+}
@@ -0,0 +1,50 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private final ReadWriteRoutingDataSource routing =
+            new ReadWriteRoutingDataSource(mock(DataSource.class), mock(DataSource.class));
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void readOnlyTransaction_RoutesToReplica() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(ReadWriteRoutingDataSource.Route.REPLICA, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void readWriteOrNoTransaction_RoutesToPrimary() {
+        assertEquals(ReadWriteRoutingDataSource.Route.PRIMARY, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void pinnedReadOnlyTransaction_RoutesToPrimaryUntilScopeCloses() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        try (PrimaryPin.Scope outer = PrimaryPin.enter()) {
+            try (PrimaryPin.Scope inner = PrimaryPin.enter()) {
+                assertEquals(ReadWriteRoutingDataSource.Route.PRIMARY, routing.determineCurrentLookupKey());
+            }
+            // Closing the nested scope leaves the outer pin in place
+            assertEquals(ReadWriteRoutingDataSource.Route.PRIMARY, routing.determineCurrentLookupKey());
+        }
+
+        assertFalse(PrimaryPin.isPinned());
+        assertEquals(ReadWriteRoutingDataSource.Route.REPLICA, routing.determineCurrentLookupKey());
+    }
+}
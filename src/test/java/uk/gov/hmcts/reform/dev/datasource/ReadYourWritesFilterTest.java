@@ -0,0 +1,78 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(2));
+
+    @Test
+    void write_SetsCookieAndRunsOnPrimary() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicBoolean pinned = new AtomicBoolean();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/cases"), response, capture(pinned));
+
+        assertTrue(pinned.get());
+        String cookie = response.getHeader(HttpHeaders.SET_COOKIE);
+        assertNotNull(cookie);
+        assertTrue(cookie.startsWith(ReadYourWritesFilter.COOKIE + "="));
+        assertFalse(PrimaryPin.isPinned());
+    }
+
+    @Test
+    void readWithinWindow_IsPinnedToPrimary() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/cases");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(System.currentTimeMillis() + 60_000)));
+        AtomicBoolean pinned = new AtomicBoolean();
+
+        filter.doFilter(request, new MockHttpServletResponse(), capture(pinned));
+
+        assertTrue(pinned.get());
+    }
+
+    @Test
+    void readAfterWindowOrWithoutCookie_UsesReplica() throws Exception {
+        MockHttpServletRequest expired = new MockHttpServletRequest("GET", "/cases");
+        expired.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(System.currentTimeMillis() - 1)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicBoolean pinned = new AtomicBoolean(true);
+
+        filter.doFilter(expired, response, capture(pinned));
+        assertFalse(pinned.get());
+        assertNull(response.getHeader(HttpHeaders.SET_COOKIE));
+
+        pinned.set(true);
+        filter.doFilter(new MockHttpServletRequest("GET", "/cases"), new MockHttpServletResponse(), capture(pinned));
+        assertFalse(pinned.get());
+    }
+
+    @Test
+    void zeroWindow_NeverPins() throws Exception {
+        ReadYourWritesFilter disabled = new ReadYourWritesFilter(Duration.ZERO);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicBoolean pinned = new AtomicBoolean(true);
+
+        disabled.doFilter(new MockHttpServletRequest("POST", "/cases"), response, capture(pinned));
+
+        assertFalse(pinned.get());
+        assertNull(response.getHeader(HttpHeaders.SET_COOKIE));
+    }
+
+    private static FilterChain capture(AtomicBoolean pinned) {
+        return (request, response) -> pinned.set(PrimaryPin.isPinned());
+    }
+}
@@ -0,0 +1,120 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementMonitorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void normalize_ReplacesLiteralsAndCollapsesInLists() {
+        assertThat(SqlNormalizer.normalize("select c1_0.id from cases c1_0\n  where c1_0.id in (?,?,?)"
+                                                   + " and c1_0.status='OPEN' and c1_0.version = 42"))
+                .isEqualTo("select c1_0.id from cases c1_0 where c1_0.id in (?)"
+                                   + " and c1_0.status=? and c1_0.version = ?");
+        assertThat(SqlNormalizer.normalize("select * from cases where title = 'O''Brien' and id IN ( 1 , 2 )"))
+                .isEqualTo("select * from cases where title = ? and id in (?)");
+    }
+
+    @Test
+    void shouldTimeStatementsByShapeAndPool() {
+        StatementMonitor monitor = new StatementMonitor(registry, Duration.ofMinutes(1), 10, 10, 100);
+
+        run(monitor, "primary", "select * from cases where id = 1");
+        run(monitor, "primary", "select * from cases where id = 2");
+        run(monitor, "replica", "select * from cases where id = 3");
+
+        assertThat(monitor.statements()).hasSize(1);
+        String id = monitor.statements().keySet().iterator().next();
+        assertThat(id).matches("[0-9a-f]{12}");
+        assertThat(monitor.statements()).containsEntry(id, "select * from cases where id = ?");
+        assertThat(registry.get("cases.jdbc.statements")
+                           .tag("pool", "primary")
+                           .tag("statement", id)
+                           .timer().count()).isEqualTo(2);
+        assertThat(registry.get("cases.jdbc.statements").tag("pool", "replica").timer().count()).isEqualTo(1);
+        assertThat(monitor.slowStatements()).isEmpty();
+    }
+
+    @Test
+    void shouldGiveAShapeTheSameIdOnEveryInstance() {
+        StatementMonitor first = new StatementMonitor(registry, Duration.ofMinutes(1), 10, 10, 100);
+        StatementMonitor second = new StatementMonitor(new SimpleMeterRegistry(), Duration.ofMinutes(1), 10, 10, 100);
+
+        run(first, "primary", "select * from cases where status = 'OPEN'");
+        run(second, "replica", "select * from cases where status = 'CLOSED'");
+
+        assertThat(first.statements()).isEqualTo(second.statements());
+    }
+
+    @Test
+    void shouldShareOneTimerOnceTheShapeCapIsReached() {
+        StatementMonitor monitor = new StatementMonitor(registry, Duration.ofMinutes(1), 10, 10, 2);
+
+        run(monitor, "primary", "select 1 from a");
+        run(monitor, "primary", "select 1 from b");
+        run(monitor, "primary", "select 1 from c");
+        run(monitor, "primary", "select 1 from d");
+
+        assertThat(registry.get("cases.jdbc.statements").timers()).hasSize(3);
+        assertThat(monitor.statements()).hasSize(2);
+        assertThat(registry.get("cases.jdbc.statements").tag("statement", StatementMonitor.OTHER).timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void shouldLogSlowStatementsNewestFirstWithinTheLogSize() {
+        StatementMonitor monitor = new StatementMonitor(registry, Duration.ZERO, 2, 10, 100);
+
+        try (StatementMonitor.Scope ignored = monitor.openScope("GET /cases")) {
+            run(monitor, "primary", "select * from a");
+            run(monitor, "primary", "select * from b");
+            run(monitor, "primary", "select * from c where title = 'secret'");
+        }
+
+        List<StatementMonitor.SlowStatement> slow = monitor.slowStatements();
+        assertThat(slow).extracting(StatementMonitor.SlowStatement::sql)
+                .containsExactly("select * from c where title = ?", "select * from b");
+        assertThat(slow.get(0).request()).isEqualTo("GET /cases");
+        assertThat(registry.get("cases.jdbc.slow.statements").counter().count()).isEqualTo(3);
+
+        monitor.clear();
+        assertThat(monitor.slowStatements()).isEmpty();
+    }
+
+    @Test
+    void shouldReportShapesRepeatedWithinOneScope() {
+        StatementMonitor monitor = new StatementMonitor(registry, Duration.ofMinutes(1), 10, 3, 100);
+
+        try (StatementMonitor.Scope ignored = monitor.openScope("GET /cases")) {
+            for (int id = 1; id <= 3; id++) {
+                run(monitor, "primary", "select * from cases where id = " + id);
+            }
+            run(monitor, "primary", "select count(*) from cases");
+        }
+        // Outside any request nothing is counted
+        for (int id = 1; id <= 5; id++) {
+            run(monitor, "primary", "select * from cases where id = " + id);
+        }
+
+        assertThat(monitor.repeatedStatements()).containsExactly(new StatementMonitor.RepeatedStatement(
+                monitor.repeatedStatements().get(0).at(), "GET /cases", "select * from cases where id = ?", 3));
+        assertThat(registry.get("cases.jdbc.repeated.statements").counter().count()).isEqualTo(1);
+    }
+
+    private static void run(StatementMonitor monitor, String pool, String sql) {
+        ExecutionInfo execution = new ExecutionInfo();
+        execution.setDataSourceName(pool);
+        List<QueryInfo> queries = List.of(new QueryInfo(sql));
+        monitor.beforeQuery(execution, queries);
+        monitor.afterQuery(execution, queries);
+    }
+}
@@ -0,0 +1,107 @@
+package uk.gov.hmcts.reform.dev.deadline;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.models.CaseSummary;
+import uk.gov.hmcts.reform.dev.service.CaseScanner;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CaseDeadlineIndexTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2030, 1, 10, 12, 0);
+    private static final EnumSet<CaseStatus> ALL = EnumSet.allOf(CaseStatus.class);
+
+    private CaseDeadlineIndex deadlineIndex;
+
+    @BeforeEach
+    void setUp() {
+        deadlineIndex = new CaseDeadlineIndex();
+        deadlineIndex.index(caseOf(1, NOON.plusDays(2), CaseStatus.OPEN));
+        deadlineIndex.index(caseOf(2, NOON.minusDays(1), CaseStatus.IN_PROGRESS));
+        deadlineIndex.index(caseOf(3, NOON.minusDays(1), CaseStatus.OPEN));
+        deadlineIndex.index(caseOf(4, NOON.minusDays(3), CaseStatus.CLOSED));
+        deadlineIndex.index(caseOf(5, NOON, CaseStatus.OPEN));
+    }
+
+    private static Case caseOf(int id, LocalDateTime dueDate, CaseStatus status) {
+        return Case.builder()
+                .id(id)
+                .caseNumber("DUE" + id)
+                .title("Deadline case " + id)
+                .status(status)
+                .dueDate(dueDate)
+                .build();
+    }
+
+    private static List<Integer> ids(List<CaseSummary> summaries) {
+        return summaries.stream().map(CaseSummary::id).toList();
+    }
+
+    @Test
+    void shouldListCasesDueBeforeInDeadlineOrderAcrossStatuses() {
+        assertThat(ids(deadlineIndex.dueBefore(NOON, ALL, null, 10))).containsExactly(4, 2, 3);
+        assertThat(ids(deadlineIndex.dueBefore(NOON, CaseDeadlineService.ACTIVE, null, 10))).containsExactly(2, 3);
+        assertThat(ids(deadlineIndex.dueBefore(NOON, EnumSet.of(CaseStatus.OPEN), null, 10))).containsExactly(3);
+    }
+
+    @Test
+    void shouldPageFromCursor() {
+        List<CaseSummary> first = deadlineIndex.dueBefore(NOON.plusDays(5), ALL, null, 2);
+        assertThat(ids(first)).containsExactly(4, 2);
+
+        CaseSummary last = first.get(1);
+        DeadlineKey cursor = DeadlineKey.parse(new DeadlineKey(last.dueDate(), last.id()).encode());
+        assertThat(ids(deadlineIndex.dueBefore(NOON.plusDays(5), ALL, cursor, 10))).containsExactly(3, 5, 1);
+    }
+
+    @Test
+    void shouldFollowUpdatesAndDeletes() {
+        deadlineIndex.onCaseChanged(CaseChangedEvent.updated(caseOf(2, NOON.plusDays(1), CaseStatus.CLOSED),
+                                                             CaseStatus.OPEN));
+        deadlineIndex.onCaseChanged(CaseChangedEvent.deleted(3, CaseStatus.OPEN));
+        deadlineIndex.onCaseChanged(CaseChangedEvent.created(caseOf(6, NOON.minusHours(1), CaseStatus.OPEN)));
+
+        assertThat(ids(deadlineIndex.dueBefore(NOON, CaseDeadlineService.ACTIVE, null, 10))).containsExactly(6);
+        assertThat(ids(deadlineIndex.dueBefore(NOON.plusDays(1).plusMinutes(1), EnumSet.of(CaseStatus.CLOSED),
+                                               null, 10))).containsExactly(4, 2);
+        assertThat(deadlineIndex.size()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldApplyChangesMadeDuringRebuildAfterTheScan() {
+        CaseScanner scanner = mock(CaseScanner.class);
+        CaseDeadlineIndex rebuilt = new CaseDeadlineIndex();
+        ReflectionTestUtils.setField(rebuilt, "caseScanner", scanner);
+        when(scanner.forEachCase(any())).thenAnswer(invocation -> {
+            Consumer<Case> action = invocation.getArgument(0);
+            // Both changes commit mid-scan, before the scan reaches the rows they touched
+            rebuilt.onCaseChanged(CaseChangedEvent.deleted(1, CaseStatus.OPEN));
+            rebuilt.onCaseChanged(CaseChangedEvent.updated(caseOf(2, NOON.minusDays(1), CaseStatus.CLOSED),
+                                                           CaseStatus.OPEN));
+            action.accept(caseOf(1, NOON.minusDays(2), CaseStatus.OPEN));
+            action.accept(caseOf(2, NOON.minusDays(1), CaseStatus.OPEN));
+            return 2L;
+        });
+
+        rebuilt.rebuild();
+
+        assertThat(ids(rebuilt.dueBefore(NOON, CaseDeadlineService.ACTIVE, null, 10))).isEmpty();
+        assertThat(ids(rebuilt.dueBefore(NOON, EnumSet.of(CaseStatus.CLOSED), null, 10))).containsExactly(2);
+        assertThat(rebuilt.size()).isEqualTo(1);
+        assertThat(rebuilt.isReady()).isTrue();
+    }
+}
@@ -0,0 +1,75 @@
+package uk.gov.hmcts.reform.dev.feed;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent.ChangeType;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CaseChangeLogTest {
+
+    @Test
+    void shouldNumberChangesFromTheFirstSequence() {
+        CaseChangeLog log = new CaseChangeLog(4, 100);
+
+        CaseChange created = log.append(CaseChangedEvent.created(newCase(1)));
+        CaseChange deleted = log.append(CaseChangedEvent.deleted(1, CaseStatus.OPEN));
+
+        assertThat(created.sequence()).isEqualTo(100);
+        assertThat(created.type()).isEqualTo(ChangeType.CREATED);
+        assertThat(created.current().caseNumber()).isEqualTo("CASE1");
+        assertThat(deleted.sequence()).isEqualTo(101);
+        assertThat(deleted.current()).isNull();
+        assertThat(log.lastSequence()).isEqualTo(101);
+    }
+
+    @Test
+    void shouldReturnChangesAfterSequenceInOrder() {
+        CaseChangeLog log = new CaseChangeLog(8, 1);
+        for (int id = 1; id <= 5; id++) {
+            log.append(CaseChangedEvent.updated(newCase(id), CaseStatus.OPEN));
+        }
+
+        assertThat(log.after(0, 10)).extracting(CaseChange::caseId).containsExactly(1, 2, 3, 4, 5);
+        assertThat(log.after(2, 2)).extracting(CaseChange::sequence).containsExactly(3L, 4L);
+        assertThat(log.after(5, 10)).isEmpty();
+    }
+
+    @Test
+    void shouldReportGapOnceChangesHaveBeenOverwritten() {
+        CaseChangeLog log = new CaseChangeLog(3, 1);
+        for (int id = 1; id <= 5; id++) {
+            log.append(CaseChangedEvent.updated(newCase(id), CaseStatus.OPEN));
+        }
+
+        // Only sequences 3..5 are still held
+        assertThat(log.after(1, 10)).isNull();
+        List<CaseChange> retained = log.after(2, 10);
+        assertThat(retained).extracting(CaseChange::sequence).containsExactly(3L, 4L, 5L);
+    }
+
+    @Test
+    void shouldReportGapForSequencesThisLogNeverIssued() {
+        CaseChangeLog log = new CaseChangeLog(3, 1_000);
+        log.append(CaseChangedEvent.deleted(1, CaseStatus.OPEN));
+
+        // From before a restart, and from the future
+        assertThat(log.after(42, 10)).isNull();
+        assertThat(log.after(5_000, 10)).isNull();
+        assertThat(log.after(999, 10)).hasSize(1);
+    }
+
+    @Test
+    void shouldRejectEmptyCapacity() {
+        assertThatThrownBy(() -> new CaseChangeLog(0, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Case newCase(int id) {
+        return Case.builder().id(id).caseNumber("CASE" + id).title("Case " + id).status(CaseStatus.OPEN).build();
+    }
+}
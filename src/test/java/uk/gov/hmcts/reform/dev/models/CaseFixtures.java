@@ -0,0 +1,30 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import java.time.LocalDateTime;
+
+/**
+ * Case builders shared by the tests; each returns a builder so a test can override just the
+ * fields it is about.
+ */
+public final class CaseFixtures {
+
+    private CaseFixtures() {
+    }
+
+    // Passes validation: an open case due in a week
+    public static Case.CaseBuilder newCase(String caseNumber) {
+        return Case.builder()
+                .caseNumber(caseNumber)
+                .title("Case " + caseNumber)
+                .status(CaseStatus.OPEN)
+                .dueDate(LocalDateTime.now().plusDays(7));
+    }
+
+    // As the service hands it back: stored, versioned and with a fixed due date
+    public static Case.CaseBuilder storedCase(int id, String caseNumber) {
+        return newCase(caseNumber)
+                .id(id)
+                .dueDate(LocalDateTime.of(2030, 1, 1, 12, 0))
+                .version(1L);
+    }
+}
@@ -1,36 +1,55 @@
 package uk.gov.hmcts.reform.dev.models;
 
-import org.junit.jupiter.api.BeforeEach;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
-import uk.gov.hmcts.reform.dev.controllers.CaseController;
-import uk.gov.hmcts.reform.dev.exception.GlobalExceptionHandler;
-import uk.gov.hmcts.reform.dev.repository.CaseRepository;
-import uk.gov.hmcts.reform.dev.service.CaseService;
-
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.*;
-import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.util.unit.DataSize;
+import uk.gov.hmcts.reform.dev.config.ByteBufferHttpMessageConverter;
+import uk.gov.hmcts.reform.dev.controllers.CaseController;
+import uk.gov.hmcts.reform.dev.controllers.ControllerTestConfig;
+import uk.gov.hmcts.reform.dev.exception.CaseNotFoundException;
+import uk.gov.hmcts.reform.dev.exception.CaseVersionConflictException;
+import uk.gov.hmcts.reform.dev.exception.DuplicateCaseNumberException;
+import uk.gov.hmcts.reform.dev.search.CaseSearchService;
+import uk.gov.hmcts.reform.dev.service.CaseEtagService;
+import uk.gov.hmcts.reform.dev.service.CaseExportService;
+import uk.gov.hmcts.reform.dev.service.CaseJsonCache;
+import uk.gov.hmcts.reform.dev.service.CaseService;
 
+import java.io.ByteArrayInputStream;
 import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
 @WebMvcTest(controllers = CaseController.class)
-@Import({ CaseTest.TestConfig.class, GlobalExceptionHandler.class })
+@Import({ ControllerTestConfig.class, CaseTest.TestConfig.class, ByteBufferHttpMessageConverter.class })
 public class CaseTest {
     @Autowired
     private MockMvc mockMvc;
@@ -38,30 +57,29 @@ public class CaseTest {
     @Autowired
     private ObjectMapper objectMapper;
 
-    @Autowired
+    @MockitoBean
     private CaseService caseService;
 
-    @Autowired
-    private CaseRepository caseRepository;
+    @MockitoBean
+    private CaseEtagService caseEtagService;
 
+    @MockitoBean
+    private CaseExportService caseExportService;
+
+    @MockitoBean
+    private CaseSearchService caseSearchService;
+
+    // The real JSON cache, so reads are serialised and compressed the way they are served
     @TestConfiguration
     static class TestConfig {
-        @Bean
-        public CaseService caseService() {
-            return mock(CaseService.class);
-        }
 
         @Bean
-        public CaseRepository caseRepository() {
-            return mock(CaseRepository.class);
+        public CaseJsonCache caseJsonCache(ObjectMapper objectMapper) {
+            return new CaseJsonCache(objectMapper, ControllerTestConfig.METER_REGISTRY, DataSize.ofMegabytes(1),
+                                     false);
         }
     }
 
-    @BeforeEach
-    void setup() {
-        reset(caseService);
-    }
-
     @Test
     void createCaseWithInvalidData_ShouldReturnBadRequest() throws Exception {
         String invalidJson = """
@@ -81,26 +99,9 @@ public class CaseTest {
 
     @Test
     void createDuplicateCaseNumber_ShouldReturnConflict() throws Exception {
-        LocalDateTime futureDate = LocalDateTime.now().plusDays(7);
-
-        Case case1 = Case.builder()
-                .caseNumber("DUPLICATE123")
-                .title("First Case")
-                .status(CaseStatus.OPEN)
-                .dueDate(futureDate)
-                .build();
-
-        caseRepository.save(case1);
-
-        Case case2 = Case.builder()
-                .caseNumber("DUPLICATE123")
-                .title("Second Case")
-                .status(CaseStatus.OPEN)
-                .dueDate(futureDate)
-                .build();
-
-                when(caseService.createCase(any(Case.class)))
-            .thenThrow(new DataIntegrityViolationException("Duplicate case number"));
+        Case case2 = CaseFixtures.newCase("DUPLICATE123").title("Second Case").build();
+        when(caseService.createCase(any(Case.class)))
+                .thenThrow(new DataIntegrityViolationException("Duplicate case number"));
 
         mockMvc.perform(post("/cases")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -110,15 +111,38 @@ public class CaseTest {
     }
 
     @Test
-    void createValidCase_ShouldReturnCreated() throws Exception {
-        LocalDateTime futureDate = LocalDateTime.now().plusDays(3);
+    void createCaseRejectedByDuplicateCheck_ShouldReturnConflict() throws Exception {
+        Case duplicate = CaseFixtures.newCase("TAKEN123").build();
+        when(caseService.createCase(any(Case.class)))
+                .thenThrow(new DuplicateCaseNumberException("Case number TAKEN123 already exists"));
+
+        mockMvc.perform(post("/cases")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(duplicate)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Case number already exists"));
+    }
+
+    @Test
+    void getCaseByNumber_ShouldReturnCaseOrNotFound() throws Exception {
+        Case myCase = CaseFixtures.storedCase(9, "NUMBER123").build();
+        when(caseService.getCaseByCaseNumber("NUMBER123")).thenReturn(myCase);
+        when(caseService.getCaseByCaseNumber("MISSING1"))
+                .thenThrow(new CaseNotFoundException("Case with number MISSING1 not found"));
+
+        mockMvc.perform(get("/cases/by-number/NUMBER123"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"9-v1\""))
+                .andExpect(jsonPath("$.id").value(9));
+        mockMvc.perform(get("/cases/by-number/MISSING1"))
+                .andExpect(status().isNotFound());
+    }
 
-        Case validCase = Case.builder()
-                .caseNumber("VALID123")
+    @Test
+    void createValidCase_ShouldReturnCreated() throws Exception {
+        Case validCase = CaseFixtures.newCase("VALID123")
                 .title("Valid Case Title")
                 .description("A valid case description")
-                .status(CaseStatus.OPEN)
-                .dueDate(futureDate)
                 .build();
 
         // Mock successful creation
@@ -134,19 +158,162 @@ public class CaseTest {
 
     @Test
     void createCaseWithPastDueDate_ShouldReturnBadRequest() throws Exception {
-        LocalDateTime pastDate = LocalDateTime.now().minusDays(1);
-
-        Case invalidCase = Case.builder()
-                .caseNumber("PAST123")
-                .title("Case With Past Due Date")
-                .status(CaseStatus.OPEN)
-                .dueDate(pastDate) // Past date should fail @Future validation
+        Case invalidCase = CaseFixtures.newCase("PAST123")
+                .dueDate(LocalDateTime.now().minusDays(1)) // Past date should fail @Future validation
                 .build();
+        double failuresBefore = validationFailures();
 
         mockMvc.perform(post("/cases")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(invalidCase)))
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.error").value("Validation Failed"));
+
+        assertEquals(failuresBefore + 1, validationFailures());
+    }
+
+    @Test
+    void getMissingCase_ShouldReturnNotFoundAndCountIt() throws Exception {
+        when(caseService.getCaseById("999")).thenThrow(new CaseNotFoundException("Case not found with ID: 999"));
+        double notFoundBefore = ControllerTestConfig.METER_REGISTRY.get("cases.not.found").counter().count();
+
+        mockMvc.perform(get("/cases/999"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Case Not Found"));
+
+        assertEquals(notFoundBefore + 1,
+                     ControllerTestConfig.METER_REGISTRY.get("cases.not.found").counter().count());
+    }
+
+    @Test
+    void getCaseWithMatchingETag_ShouldReturnNotModifiedWithoutLoadingCase() throws Exception {
+        when(caseEtagService.caseEtag("7")).thenReturn("\"7-18f\"");
+
+        mockMvc.perform(get("/cases/7").header(HttpHeaders.IF_NONE_MATCH, "\"7-18f\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"7-18f\""))
+                .andExpect(content().string(""));
+
+        verify(caseService, never()).getCaseById(any());
+    }
+
+    @Test
+    void getCaseWithStaleETag_ShouldReturnCaseWithCurrentETag() throws Exception {
+        Case myCase = CaseFixtures.storedCase(7, "ETAG123")
+                .updatedDate(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .build();
+        when(caseEtagService.caseEtag("7")).thenReturn("\"7-new\"");
+        when(caseService.getCaseById("7")).thenReturn(myCase);
+
+        mockMvc.perform(get("/cases/7").header(HttpHeaders.IF_NONE_MATCH, "\"7-old\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, CaseEtagService.caseEtag(myCase)))
+                .andExpect(jsonPath("$.caseNumber").value("ETAG123"));
+    }
+
+    @Test
+    void getCaseAcceptingGzip_ShouldReturnCompressedJson() throws Exception {
+        Case myCase = CaseFixtures.storedCase(8, "GZIP123").version(3L).build();
+        when(caseService.getCaseById("8")).thenReturn(myCase);
+
+        byte[] body = mockMvc.perform(get("/cases/8").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"8-v3-gz\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream json = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertEquals("GZIP123", objectMapper.readTree(json).get("caseNumber").asText());
+        }
+
+        mockMvc.perform(get("/cases/8").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"8-v3\""))
+                .andExpect(jsonPath("$.caseNumber").value("GZIP123"));
+    }
+
+    @Test
+    void getCaseWithGzipETag_ShouldReturnNotModifiedForEitherEncoding() throws Exception {
+        when(caseEtagService.caseEtag("8")).thenReturn("\"8-v3\"");
+
+        mockMvc.perform(get("/cases/8")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"8-v3-gz\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"8-v3-gz\""));
+
+        mockMvc.perform(get("/cases/8").header(HttpHeaders.IF_NONE_MATCH, "\"8-v3-gz\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"8-v3-gz\""));
+
+        verify(caseService, never()).getCaseById(any());
+    }
+
+    @Test
+    void getCasesWithMatchingETag_ShouldReturnNotModifiedWithoutQueryingPage() throws Exception {
+        when(caseEtagService.listEtag()).thenReturn("\"list-3-18f\"");
+
+        mockMvc.perform(get("/cases").header(HttpHeaders.IF_NONE_MATCH, "\"list-3-18f\""))
+                .andExpect(status().isNotModified());
+
+        verify(caseService, never()).fetchCaseList(anyInt(), anyInt());
+    }
+
+    @Test
+    void patchCaseWithStaleIfMatch_ShouldReturnConflict() throws Exception {
+        when(caseService.patchCase(any(Case.class), eq("7"), eq(2L)))
+                .thenThrow(new CaseVersionConflictException("Case with ID 7 has been modified since version 2"));
+
+        mockMvc.perform(patch("/cases/7")
+                .header(HttpHeaders.IF_MATCH, "\"7-v2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Patched Case Title\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Version Conflict"));
+    }
+
+    @Test
+    void patchCase_ShouldReturnNewETag() throws Exception {
+        Case patched = CaseFixtures.storedCase(7, "PATCH123").title("Patched Case Title").version(3L).build();
+        when(caseService.patchCase(any(Case.class), eq("7"), eq(2L))).thenReturn(patched);
+
+        mockMvc.perform(patch("/cases/7")
+                .header(HttpHeaders.IF_MATCH, "\"7-v2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Patched Case Title\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"7-v3\""))
+                .andExpect(jsonPath("$.version").value(3));
+    }
+
+    @Test
+    void patchCaseWithoutIfMatchOrVersion_ShouldReturnPreconditionRequired() throws Exception {
+        mockMvc.perform(patch("/cases/7")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Patched Case Title\"}"))
+                .andExpect(status().isPreconditionRequired())
+                .andExpect(jsonPath("$.error").value("Precondition Required"));
+
+        verify(caseService, never()).patchCase(any(), any(), any());
+    }
+
+    @Test
+    void patchCaseWithWildcardIfMatch_ShouldPatchAnyVersion() throws Exception {
+        Case patched = CaseFixtures.storedCase(7, "PATCH123").title("Patched Case Title").version(5L).build();
+        when(caseService.patchCase(any(Case.class), eq("7"), isNull())).thenReturn(patched);
+
+        mockMvc.perform(patch("/cases/7")
+                .header(HttpHeaders.IF_MATCH, "*")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Patched Case Title\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"7-v5\""));
+    }
+
+    private static double validationFailures() {
+        return ControllerTestConfig.METER_REGISTRY.get("cases.validation.failures")
+                .tag("reason", "invalid_field").counter().count();
     }
 }
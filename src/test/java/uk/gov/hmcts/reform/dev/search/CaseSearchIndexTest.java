@@ -0,0 +1,105 @@
+package uk.gov.hmcts.reform.dev.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.test.util.ReflectionTestUtils;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.service.CaseScanner;
+
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CaseSearchIndexTest {
+
+    private CaseSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new CaseSearchIndex();
+        searchIndex.index(caseOf(1, "ABC123", "Contract Dispute Resolution", "Terms of service delivery"));
+        searchIndex.index(caseOf(2, "DISPUTE9", "Tenancy Claim", "Deposit dispute between landlord and tenant"));
+        searchIndex.index(caseOf(3, "XYZ789", "Employment Tribunal", null));
+    }
+
+    private static Case caseOf(int id, String caseNumber, String title, String description) {
+        return Case.builder()
+                .id(id)
+                .caseNumber(caseNumber)
+                .title(title)
+                .description(description)
+                .status(CaseStatus.OPEN)
+                .build();
+    }
+
+    @Test
+    void shouldRankCaseNumberMatchesAboveTitleAndDescription() {
+        SearchHits hits = searchIndex.search("Dispute", 0, 10);
+
+        assertThat(hits.total()).isEqualTo(2);
+        assertThat(hits.ids()).containsExactly(2, 1);
+    }
+
+    @Test
+    void shouldMatchSubstringsCaseInsensitively() {
+        assertThat(searchIndex.search("tribUNAL", 0, 10).ids()).containsExactly(3);
+        assertThat(searchIndex.search("c12", 0, 10).ids()).containsExactly(1);
+        assertThat(searchIndex.search("nothing here", 0, 10).total()).isZero();
+    }
+
+    @Test
+    void shouldAnswerShortTermsByScanning() {
+        assertThat(searchIndex.search("xy", 0, 10).ids()).containsExactly(3);
+    }
+
+    @Test
+    void shouldPageResults() {
+        SearchHits hits = searchIndex.search("e", 1, 1);
+
+        assertThat(hits.total()).isEqualTo(3);
+        assertThat(hits.ids()).hasSize(1);
+    }
+
+    @Test
+    void shouldFollowUpdatesAndDeletes() {
+        searchIndex.onCaseChanged(CaseChangedEvent.updated(
+                caseOf(3, "XYZ789", "Immigration Appeal", null), null));
+        searchIndex.onCaseChanged(CaseChangedEvent.deleted(2, null));
+
+        assertThat(searchIndex.search("tribunal", 0, 10).total()).isZero();
+        assertThat(searchIndex.search("appeal", 0, 10).ids()).containsExactly(3);
+        assertThat(searchIndex.search("dispute", 0, 10).ids()).containsExactly(1);
+        assertThat(searchIndex.size()).isEqualTo(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldApplyChangesMadeDuringRebuildAfterTheScan() {
+        CaseScanner scanner = mock(CaseScanner.class);
+        CaseSearchIndex rebuilt = new CaseSearchIndex();
+        ReflectionTestUtils.setField(rebuilt, "caseScanner", scanner);
+        when(scanner.forEachCase(any())).thenAnswer(invocation -> {
+            Consumer<Case> action = invocation.getArgument(0);
+            // Both changes commit mid-scan, before the scan reaches the rows they touched
+            rebuilt.onCaseChanged(CaseChangedEvent.deleted(1, CaseStatus.OPEN));
+            rebuilt.onCaseChanged(CaseChangedEvent.updated(
+                    caseOf(2, "DISPUTE9", "Housing Appeal", null), CaseStatus.OPEN));
+            action.accept(caseOf(1, "ABC123", "Contract Dispute Resolution", null));
+            action.accept(caseOf(2, "DISPUTE9", "Tenancy Claim", null));
+            return 2L;
+        });
+
+        rebuilt.rebuild();
+
+        assertThat(rebuilt.search("contract", 0, 10).total()).isZero();
+        assertThat(rebuilt.search("tenancy", 0, 10).total()).isZero();
+        assertThat(rebuilt.search("housing", 0, 10).ids()).containsExactly(2);
+        assertThat(rebuilt.isReady()).isTrue();
+    }
+}
@@ -0,0 +1,241 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.exception.BatchTooLargeException;
+import uk.gov.hmcts.reform.dev.models.BulkItemResult;
+import uk.gov.hmcts.reform.dev.models.BulkOutcome;
+import uk.gov.hmcts.reform.dev.models.BulkResponse;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.models.CaseSummary;
+import uk.gov.hmcts.reform.dev.repository.CaseJdbcWriter;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CaseBulkServiceTest {
+
+    @Mock
+    private CaseRepository caseRepository;
+
+    @Mock
+    private CaseJdbcWriter caseJdbcWriter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @InjectMocks
+    private CaseBulkService caseBulkService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(caseBulkService, "validator",
+                Validation.buildDefaultValidatorFactory().getValidator());
+        ReflectionTestUtils.setField(caseBulkService, "chunkSize", 2);
+        ReflectionTestUtils.setField(caseBulkService, "maxItems", 10);
+    }
+
+    private static Case closedCase(int id, LocalDateTime updatedDate) {
+        return Case.builder()
+                .id(id)
+                .caseNumber("C" + id)
+                .status(CaseStatus.CLOSED)
+                .updatedDate(updatedDate)
+                .version(1L)
+                .build();
+    }
+
+    private static Case validCase(String caseNumber) {
+        return Case.builder()
+                .caseNumber(caseNumber)
+                .title("Bulk Case " + caseNumber)
+                .status(CaseStatus.OPEN)
+                .dueDate(LocalDateTime.now().plusDays(7))
+                .build();
+    }
+
+    @Test
+    void shouldInsertValidCasesInChunks() {
+        // Given
+        List<Case> cases = List.of(validCase("BULK1"), validCase("BULK2"), validCase("BULK3"));
+        when(caseRepository.findExistingCaseNumbers(anyCollection())).thenReturn(List.of());
+
+        // When
+        BulkResponse response = caseBulkService.createCases(cases);
+
+        // Then
+        assertThat(response.getSucceeded()).isEqualTo(3);
+        assertThat(response.getFailed()).isZero();
+        assertThat(response.getResults()).extracting(BulkItemResult::getOutcome)
+                .containsOnly(BulkOutcome.CREATED);
+
+        verify(caseRepository, times(2)).saveAllAndFlush(anyList());
+        verify(eventPublisher, times(3)).publishEvent(any(CaseChangedEvent.class));
+    }
+
+    @Test
+    void shouldReportInvalidAndDuplicateItemsWithoutFailingTheBatch() {
+        // Given
+        Case invalid = validCase("bad");
+        List<Case> cases = List.of(validCase("BULK1"), invalid, validCase("BULK1"), validCase("TAKEN1"));
+        when(caseRepository.findExistingCaseNumbers(anyCollection())).thenReturn(List.of("TAKEN1"));
+
+        // When
+        BulkResponse response = caseBulkService.createCases(cases);
+
+        // Then
+        assertThat(response.getResults()).extracting(BulkItemResult::getOutcome).containsExactly(
+                BulkOutcome.CREATED, BulkOutcome.INVALID, BulkOutcome.DUPLICATE, BulkOutcome.DUPLICATE);
+        assertThat(response.getResults().get(1).getErrors())
+                .anyMatch(error -> error.startsWith("caseNumber:"));
+        assertThat(response.getSucceeded()).isEqualTo(1);
+        assertThat(response.getFailed()).isEqualTo(3);
+
+        verify(caseRepository, times(1)).saveAllAndFlush(List.of(cases.get(0)));
+    }
+
+    @Test
+    void shouldFallBackToSingleInsertsWhenChunkHitsConstraint() {
+        // Given
+        Case first = validCase("RACE1");
+        Case second = validCase("RACE2");
+        when(caseRepository.findExistingCaseNumbers(anyCollection())).thenReturn(List.of());
+        when(caseRepository.saveAllAndFlush(anyList()))
+                .thenThrow(new DataIntegrityViolationException("unique constraint"));
+        when(caseRepository.saveAndFlush(any(Case.class))).thenAnswer(invocation -> {
+            Case myCase = invocation.getArgument(0);
+            if ("RACE2".equals(myCase.getCaseNumber())) {
+                throw new DataIntegrityViolationException("unique constraint");
+            }
+            return myCase;
+        });
+        when(caseRepository.existsByCaseNumber("RACE2")).thenReturn(true);
+
+        // When
+        BulkResponse response = caseBulkService.createCases(List.of(first, second));
+
+        // Then
+        assertThat(response.getResults()).extracting(BulkItemResult::getOutcome)
+                .containsExactly(BulkOutcome.CREATED, BulkOutcome.DUPLICATE);
+    }
+
+    @Test
+    void shouldRejectOversizedBatch() {
+        // Given
+        List<Case> cases = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            cases.add(validCase("BULK" + i));
+        }
+
+        // When & Then
+        assertThatThrownBy(() -> caseBulkService.createCases(cases))
+                .isInstanceOf(BatchTooLargeException.class);
+
+        verifyNoInteractions(caseRepository);
+    }
+
+    @Test
+    void shouldTransitionStatusWithOneUpdatePerChunk() {
+        // Given: chunk size 2, so IDs 1,2 and 3,4 are separate chunks; 4 does not exist, and 2 is
+        // already closed, so the update leaves it alone
+        Map<Integer, Case> stored = new HashMap<>();
+        stored.put(2, closedCase(2, LocalDateTime.now().minusDays(1)));
+        when(caseJdbcWriter.updateStatusByIdIn(anyCollection(), eq(CaseStatus.CLOSED), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> {
+                    Collection<Integer> chunkIds = invocation.getArgument(0);
+                    LocalDateTime now = invocation.getArgument(2);
+                    chunkIds.stream().filter(id -> id == 1 || id == 3)
+                            .forEach(id -> stored.put(id, closedCase(id, now)));
+                    return 1;
+                });
+        when(caseRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            Iterable<Integer> chunkIds = invocation.getArgument(0);
+            List<Case> found = new ArrayList<>();
+            chunkIds.forEach(id -> {
+                if (stored.containsKey(id)) {
+                    found.add(stored.get(id));
+                }
+            });
+            return found;
+        });
+
+        // When
+        BulkResponse response = caseBulkService.transitionStatus(Arrays.asList(1, 2, 1, null, 3, 4),
+                                                                 CaseStatus.CLOSED);
+
+        // Then
+        assertThat(response.getResults()).extracting(BulkItemResult::getOutcome)
+                .containsExactly(BulkOutcome.UPDATED, BulkOutcome.UNCHANGED, BulkOutcome.DUPLICATE,
+                                 BulkOutcome.INVALID, BulkOutcome.UPDATED, BulkOutcome.NOT_FOUND);
+        assertThat(response.getSucceeded()).isEqualTo(3);
+        assertThat(response.getFailed()).isEqualTo(3);
+        verify(caseJdbcWriter).updateStatusByIdIn(eq(List.of(1, 2)), eq(CaseStatus.CLOSED), any(LocalDateTime.class));
+        verify(caseJdbcWriter).updateStatusByIdIn(eq(List.of(3, 4)), eq(CaseStatus.CLOSED), any(LocalDateTime.class));
+        verify(caseRepository, never()).save(any(Case.class));
+        verify(eventPublisher).publishEvent(CaseChangedEvent.updated(stored.get(1), null));
+        verify(eventPublisher).publishEvent(CaseChangedEvent.updated(stored.get(3), null));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    void shouldDeleteExistingCasesInOneStatementPerChunk() {
+        // Given
+        CaseSummary open1 = new CaseSummary(1, "C1", "Case 1", CaseStatus.OPEN, null, null, null);
+        when(caseRepository.findSummariesByIdIn(List.of(1, 2))).thenReturn(List.of(open1));
+
+        // When
+        BulkResponse response = caseBulkService.deleteCases(List.of(1, 2));
+
+        // Then
+        assertThat(response.getResults()).extracting(BulkItemResult::getOutcome)
+                .containsExactly(BulkOutcome.DELETED, BulkOutcome.NOT_FOUND);
+        verify(caseJdbcWriter).deleteByIdIn(Set.of(1));
+        verify(caseRepository, never()).deleteAll(anyCollection());
+        verify(eventPublisher).publishEvent(CaseChangedEvent.deleted(1, CaseStatus.OPEN));
+    }
+
+    @Test
+    void shouldRejectTooManyIds() {
+        // When & Then
+        assertThatThrownBy(() -> caseBulkService.deleteCases(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11)))
+                .isInstanceOf(BatchTooLargeException.class);
+
+        verifyNoInteractions(caseRepository);
+    }
+}
@@ -0,0 +1,105 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.dev.exception.CaseVersionConflictException;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseListVersion;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CaseEtagServiceTest {
+
+    @Mock
+    private CaseRepository caseRepository;
+
+    @InjectMocks
+    private CaseEtagService caseEtagService;
+
+    @Test
+    void caseEtag_MatchesTagOfLoadedEntity() {
+        Case myCase = Case.builder().id(5).version(3L).build();
+        when(caseRepository.findVersionById(5)).thenReturn(Optional.of(3L));
+
+        assertThat(caseEtagService.caseEtag("5")).isEqualTo(CaseEtagService.caseEtag(myCase));
+    }
+
+    @Test
+    void caseEtag_ReturnsNullForUnknownOrMalformedId() {
+        when(caseRepository.findVersionById(9)).thenReturn(Optional.empty());
+
+        assertThat(caseEtagService.caseEtag("9")).isNull();
+        assertThat(caseEtagService.caseEtag("abc")).isNull();
+    }
+
+    @Test
+    void expectedVersion_ReadsVersionFromCaseEtag() {
+        String etag = CaseEtagService.caseEtag(Case.builder().id(5).version(3L).build());
+
+        assertThat(CaseEtagService.expectedVersion(etag, "5")).isEqualTo(3L);
+        assertThat(CaseEtagService.expectedVersion("*", "5")).isNull();
+    }
+
+    @Test
+    void expectedVersion_AcceptsGzipForm() {
+        String etag = CaseEtagService.caseEtag(Case.builder().id(5).version(3L).build());
+
+        assertThat(CaseEtagService.gzipEtag(etag)).isEqualTo("\"5-v3-gz\"");
+        assertThat(CaseEtagService.expectedVersion(CaseEtagService.gzipEtag(etag), "5")).isEqualTo(3L);
+    }
+
+    @Test
+    void revalidatedEtag_PrefersTheFormTheClientHolds() {
+        String etag = "\"5-v3\"";
+        String gzipped = "\"5-v3-gz\"";
+
+        assertThat(CaseEtagService.revalidatedEtag(gzipped, etag, false)).isEqualTo(gzipped);
+        assertThat(CaseEtagService.revalidatedEtag("\"4-v1\", W/" + etag, etag, true)).isEqualTo(etag);
+        assertThat(CaseEtagService.revalidatedEtag("\"5-v2-gz\"", etag, true)).isEqualTo(gzipped);
+        assertThat(CaseEtagService.revalidatedEtag("\"5-v2\"", etag, false)).isEqualTo(etag);
+    }
+
+    @Test
+    void expectedVersion_RejectsTagOfAnotherCaseOrFormat() {
+        String etag = CaseEtagService.caseEtag(Case.builder().id(5).version(3L).build());
+
+        assertThatThrownBy(() -> CaseEtagService.expectedVersion(etag, "6"))
+                .isInstanceOf(CaseVersionConflictException.class);
+        assertThatThrownBy(() -> CaseEtagService.expectedVersion("\"5-vX\"", "5"))
+                .isInstanceOf(CaseVersionConflictException.class);
+    }
+
+    @Test
+    void listEtag_ChangesWithCountAndLatestUpdate() {
+        LocalDateTime updated = LocalDateTime.of(2025, 3, 1, 9, 30);
+        when(caseRepository.findListVersion())
+                .thenReturn(new CaseListVersion(3L, updated))
+                .thenReturn(new CaseListVersion(2L, updated))
+                .thenReturn(new CaseListVersion(2L, updated.plusSeconds(1)));
+
+        String first = caseEtagService.listEtag();
+        String afterDelete = caseEtagService.listEtag();
+        String afterUpdate = caseEtagService.listEtag();
+
+        assertThat(first).startsWith("\"").endsWith("\"");
+        assertThat(afterDelete).isNotEqualTo(first);
+        assertThat(afterUpdate).isNotEqualTo(afterDelete);
+    }
+
+    @Test
+    void listEtag_HandlesEmptyTable() {
+        when(caseRepository.findListVersion()).thenReturn(new CaseListVersion(0L, null));
+
+        assertThat(caseEtagService.listEtag()).isEqualTo("\"list-0-0\"");
+    }
+}
@@ -0,0 +1,100 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseExportFormat;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CaseExportServiceTest {
+
+    @Mock
+    private CaseRepository caseRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @InjectMocks
+    private CaseExportService caseExportService;
+
+    private Case firstCase;
+    private Case secondCase;
+
+    @BeforeEach
+    void setUp() {
+        firstCase = Case.builder()
+                .id(1)
+                .caseNumber("CASE001")
+                .title("First Case")
+                .description("Plain description")
+                .status(CaseStatus.OPEN)
+                .dueDate(LocalDateTime.of(2030, 1, 1, 9, 0))
+                .build();
+        secondCase = Case.builder()
+                .id(2)
+                .caseNumber("CASE002")
+                .title("Second, \"quoted\" case")
+                .status(CaseStatus.CLOSED)
+                .build();
+    }
+
+    @Test
+    void shouldStreamCasesAsNdjsonAndDetachEachRow() throws Exception {
+        // Given
+        when(caseRepository.streamAll()).thenReturn(Stream.of(firstCase, secondCase));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long rows = caseExportService.exportCases(CaseExportFormat.NDJSON, out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("caseNumber").asText()).isEqualTo("CASE001");
+        assertThat(objectMapper.readTree(lines[1]).get("status").asText()).isEqualTo("CLOSED");
+
+        verify(entityManager).detach(firstCase);
+        verify(entityManager).detach(secondCase);
+    }
+
+    @Test
+    void shouldStreamCasesAsCsvWithEscapedFields() throws Exception {
+        // Given
+        when(caseRepository.streamAll()).thenReturn(Stream.of(firstCase, secondCase));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        caseExportService.exportCases(CaseExportFormat.CSV, out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines[0]).isEqualTo(CaseExportService.CSV_HEADER);
+        assertThat(lines[1]).isEqualTo("1,CASE001,First Case,Plain description,OPEN,2030-01-01T09:00,,");
+        assertThat(lines[2]).isEqualTo("2,CASE002,\"Second, \"\"quoted\"\" case\",,CLOSED,,,");
+    }
+}
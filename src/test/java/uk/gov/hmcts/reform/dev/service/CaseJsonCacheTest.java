@@ -0,0 +1,97 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaseJsonCacheTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void body_IsServedFromCacheUntilVersionChanges() throws IOException {
+        CaseJsonCache cache = new CaseJsonCache(objectMapper, registry, DataSize.ofMegabytes(1), false);
+        Case myCase = newCase(1L);
+
+        ByteBuffer first = cache.body(myCase, false);
+        assertThat(cache.body(myCase, false).array()).isSameAs(first.array());
+        assertThat(objectMapper.readTree(bytes(first))).isEqualTo(objectMapper.valueToTree(myCase));
+
+        myCase.setTitle("Retitled case");
+        myCase.setVersion(2L);
+        ByteBuffer second = cache.body(myCase, false);
+        assertThat(second.array()).isNotSameAs(first.array());
+        assertThat(objectMapper.readTree(bytes(second)).get("title").asText()).isEqualTo("Retitled case");
+    }
+
+    @Test
+    void changeEvent_DropsEntry() {
+        CaseJsonCache cache = new CaseJsonCache(objectMapper, registry, DataSize.ofMegabytes(1), false);
+        Case myCase = newCase(1L);
+        ByteBuffer first = cache.body(myCase, false);
+
+        cache.onCaseChanged(CaseChangedEvent.deleted(myCase.getId(), myCase.getStatus()));
+
+        ByteBuffer rebuilt = cache.body(myCase, false);
+        assertThat(rebuilt.array()).isNotSameAs(first.array());
+        assertThat(rebuilt).isEqualTo(first);
+    }
+
+    @Test
+    void offHeapBody_IsServedFromDirectBufferAndMatchesGzip() throws IOException {
+        CaseJsonCache cache = new CaseJsonCache(objectMapper, registry, DataSize.ofMegabytes(1), true);
+        Case myCase = newCase(4L);
+
+        ByteBuffer json = cache.body(myCase, false);
+        assertThat(json.isDirect()).isTrue();
+        // Reading one caller's buffer leaves the next caller's untouched
+        byte[] read = bytes(json);
+        assertThat(json.hasRemaining()).isFalse();
+        assertThat(bytes(cache.body(myCase, false))).isEqualTo(read);
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes(cache.body(myCase, true))))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(read);
+        }
+    }
+
+    @Test
+    void zeroBudget_SerializesEveryTime() {
+        CaseJsonCache cache = new CaseJsonCache(objectMapper, registry, DataSize.ofBytes(0), false);
+        Case myCase = newCase(1L);
+
+        assertThat(cache.body(myCase, false).array()).isNotSameAs(cache.body(myCase, false).array());
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static Case newCase(long version) {
+        return Case.builder()
+                .id(42)
+                .caseNumber("JSON42")
+                .title("Serialized case")
+                .description("Body cached as bytes")
+                .status(CaseStatus.OPEN)
+                .dueDate(LocalDateTime.of(2030, 6, 1, 9, 30))
+                .createdDate(LocalDateTime.of(2025, 1, 1, 9, 30))
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,118 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.models.Case;
+
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class CaseNumberFilterTest {
+
+    private static final int STORED = 10_000;
+
+    @Test
+    void shouldReportEveryNumberAsPossibleUntilBuilt() {
+        CaseNumberFilter filter = new CaseNumberFilter(100, 0.01, true);
+
+        assertThat(filter.isReady()).isFalse();
+        assertThat(filter.mightContain("ANYTHING1")).isTrue();
+    }
+
+    @Test
+    void shouldNeverMissStoredNumbersAndRarelyMatchOthers() {
+        CaseNumberFilter filter = builtFilter(STORED, 0.01);
+
+        for (int i = 0; i < STORED; i++) {
+            assertThat(filter.mightContain("CASE" + i)).isTrue();
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < STORED; i++) {
+            if (filter.mightContain("OTHER" + i)) {
+                falsePositives++;
+            }
+        }
+        // 1% target; allow for variance
+        assertThat(falsePositives).isLessThan(STORED * 3 / 100);
+    }
+
+    @Test
+    void shouldAddNumbersFromChangeEvents() {
+        CaseNumberFilter filter = builtFilter(100, 0.01);
+        assertThat(filter.mightContain("NEW123")).isFalse();
+
+        filter.onCaseChanged(CaseChangedEvent.created(Case.builder().id(1).caseNumber("NEW123").build()));
+        filter.onCaseChanged(CaseChangedEvent.updated(Case.builder().id(2).caseNumber("RENAMED9").build(), null));
+        filter.onCaseChanged(CaseChangedEvent.deleted(1, null));
+
+        // Deletes leave the number behind as a false positive for the confirming query to settle
+        assertThat(filter.mightContain("NEW123")).isTrue();
+        assertThat(filter.mightContain("RENAMED9")).isTrue();
+    }
+
+    @Test
+    void shouldPickUpNumbersStoredElsewhereOnRebuild() {
+        CaseScanner scanner = mock(CaseScanner.class);
+        CaseNumberFilter filter = new CaseNumberFilter(100, 0.01, true);
+        ReflectionTestUtils.setField(filter, "caseScanner", scanner);
+        when(scanner.forEachCase(any()))
+                .thenAnswer(invocation -> scan(invocation.getArgument(0), "CASE1"))
+                .thenAnswer(invocation -> {
+                    // Created here while the rebuild is scanning, after the scan passed its row
+                    filter.onCaseChanged(CaseChangedEvent.created(Case.builder().id(3).caseNumber("LOCAL3").build()));
+                    return scan(invocation.getArgument(0), "REMOTE2");
+                });
+        filter.rebuild();
+        assertThat(filter.mightContain("REMOTE2")).isFalse();
+
+        filter.scheduledRebuild();
+
+        assertThat(filter.mightContain("REMOTE2")).isTrue();
+        assertThat(filter.mightContain("LOCAL3")).isTrue();
+        // Numbers no longer in the table are dropped
+        assertThat(filter.mightContain("CASE1")).isFalse();
+    }
+
+    @Test
+    void shouldConfirmEveryNumberWhenMissesAreNotTrusted() {
+        CaseScanner scanner = mock(CaseScanner.class);
+        CaseNumberFilter filter = new CaseNumberFilter(100, 0.01, false);
+        ReflectionTestUtils.setField(filter, "caseScanner", scanner);
+
+        filter.rebuild();
+        filter.scheduledRebuild();
+
+        assertThat(filter.isReady()).isFalse();
+        assertThat(filter.mightContain("REMOTE2")).isTrue();
+        verifyNoInteractions(scanner);
+    }
+
+    private static long scan(Consumer<Case> action, String... caseNumbers) {
+        for (int i = 0; i < caseNumbers.length; i++) {
+            action.accept(Case.builder().id(i).caseNumber(caseNumbers[i]).build());
+        }
+        return caseNumbers.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CaseNumberFilter builtFilter(int stored, double falsePositiveRate) {
+        CaseScanner scanner = mock(CaseScanner.class);
+        when(scanner.forEachCase(any())).thenAnswer(invocation -> {
+            Consumer<Case> action = invocation.getArgument(0);
+            for (int i = 0; i < stored; i++) {
+                action.accept(Case.builder().id(i).caseNumber("CASE" + i).build());
+            }
+            return (long) stored;
+        });
+        CaseNumberFilter filter = new CaseNumberFilter(stored, falsePositiveRate, true);
+        ReflectionTestUtils.setField(filter, "caseScanner", scanner);
+        filter.rebuild();
+        return filter;
+    }
+}
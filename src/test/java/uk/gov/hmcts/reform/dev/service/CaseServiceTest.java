@@ -6,22 +6,41 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
 import uk.gov.hmcts.reform.dev.exception.CaseNotFoundException;
+import uk.gov.hmcts.reform.dev.exception.CaseQueueFullException;
+import uk.gov.hmcts.reform.dev.exception.CaseVersionConflictException;
+import uk.gov.hmcts.reform.dev.exception.DuplicateCaseNumberException;
+import uk.gov.hmcts.reform.dev.exception.InvalidPageRequestException;
 import uk.gov.hmcts.reform.dev.models.Case;
 import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.models.CaseSummary;
 import uk.gov.hmcts.reform.dev.models.PagedResponse;
+import uk.gov.hmcts.reform.dev.repository.CaseJdbcWriter;
 import uk.gov.hmcts.reform.dev.repository.CaseRepository;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +49,15 @@ public class CaseServiceTest {
     @Mock
     private CaseRepository caseRepository;
 
+    @Mock
+    private CaseJdbcWriter caseJdbcWriter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CaseNumberFilter caseNumberFilter;
+
     @InjectMocks
     private CaseServiceImpl caseService;
 
@@ -63,6 +91,95 @@ public class CaseServiceTest {
         assertThat(result.getStatus()).isEqualTo(CaseStatus.OPEN);
 
         verify(caseRepository, times(1)).save(testCase);
+        verify(eventPublisher, times(1)).publishEvent(CaseChangedEvent.created(testCase));
+    }
+
+    @Test
+    void shouldCreateCaseThroughWriteQueueWhenEnabled() {
+        // Given
+        CaseWriteQueue writeQueue = mock(CaseWriteQueue.class);
+        ReflectionTestUtils.setField(caseService, "caseWriteQueue", writeQueue);
+        when(writeQueue.submit(testCase)).thenReturn(CompletableFuture.completedFuture(testCase));
+
+        // When
+        Case result = caseService.createCase(testCase);
+
+        // Then
+        assertThat(result).isEqualTo(testCase);
+        verify(caseRepository, never()).save(any(Case.class));
+    }
+
+    @Test
+    void shouldRejectDuplicateCaseNumberBeforeInsert() {
+        // Given
+        when(caseNumberFilter.mightContain("CASE-001")).thenReturn(true);
+        when(caseRepository.existsByCaseNumber("CASE-001")).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> caseService.createCase(testCase))
+                .isInstanceOf(DuplicateCaseNumberException.class)
+                .hasMessage("Case number CASE-001 already exists");
+        verify(caseRepository, never()).save(any(Case.class));
+    }
+
+    @Test
+    void shouldSkipDuplicateQueryWhenFilterHasNeverSeenNumber() {
+        // Given
+        when(caseNumberFilter.mightContain("CASE-001")).thenReturn(false);
+        when(caseRepository.save(testCase)).thenReturn(testCase);
+
+        // When
+        caseService.createCase(testCase);
+
+        // Then
+        verify(caseRepository, never()).existsByCaseNumber(any());
+    }
+
+    @Test
+    void shouldAnswerUnknownCaseNumberWithoutQuery() {
+        // Given
+        when(caseNumberFilter.mightContain("NOPE1")).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> caseService.getCaseByCaseNumber("NOPE1"))
+                .isInstanceOf(CaseNotFoundException.class);
+        verify(caseRepository, never()).findByCaseNumber(any());
+    }
+
+    @Test
+    void shouldConfirmPossibleCaseNumberWithQuery() {
+        // Given
+        when(caseNumberFilter.mightContain("CASE-001")).thenReturn(true);
+        when(caseRepository.findByCaseNumber("CASE-001")).thenReturn(Optional.of(testCase));
+
+        // When & Then
+        assertThat(caseService.getCaseByCaseNumber("CASE-001")).isEqualTo(testCase);
+    }
+
+    @Test
+    void shouldRethrowWriteQueueFailure() {
+        // Given
+        CaseWriteQueue writeQueue = mock(CaseWriteQueue.class);
+        ReflectionTestUtils.setField(caseService, "caseWriteQueue", writeQueue);
+        when(writeQueue.submit(testCase)).thenReturn(
+                CompletableFuture.failedFuture(new DataIntegrityViolationException("Duplicate case_number")));
+
+        // When & Then
+        assertThatThrownBy(() -> caseService.createCase(testCase))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void shouldReportUnconfirmedWriteQueueCaseAsRetryable() {
+        // Given
+        CaseWriteQueue writeQueue = mock(CaseWriteQueue.class);
+        ReflectionTestUtils.setField(caseService, "caseWriteQueue", writeQueue);
+        when(writeQueue.submit(testCase)).thenReturn(CompletableFuture.failedFuture(new TimeoutException()));
+
+        // When & Then
+        assertThatThrownBy(() -> caseService.createCase(testCase))
+                .isInstanceOf(CaseQueueFullException.class)
+                .hasMessageContaining("may still be created");
     }
 
     @Test
@@ -108,26 +225,88 @@ public class CaseServiceTest {
     @Test
     void shouldFetchCaseListSuccessfully() {
         // Given
-        List<Case> caseList = Arrays.asList(testCase,
-                Case.builder()
+        List<CaseSummary> caseList = Arrays.asList(CaseSummary.of(testCase),
+                CaseSummary.of(Case.builder()
                         .id(2)
                         .caseNumber("CASE-002")
                         .title("Test Case 2")
                         .status(CaseStatus.IN_PROGRESS)
-                        .build());
+                        .build()));
 
-        when(caseRepository.findAll()).thenReturn(caseList);
+        when(caseRepository.findSummaries(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(caseList, PageRequest.of(0, 20), 2));
 
         // When
-        ResponseEntity<PagedResponse<Case>> result = caseService.fetchCaseList();
+        ResponseEntity<PagedResponse<CaseSummary>> result = caseService.fetchCaseList(0, 20);
 
         // Then
         assertThat(result.getStatusCode().is2xxSuccessful()).isTrue();
         assertThat(result.getBody()).isNotNull();
         assertThat(result.getBody().getContent()).hasSize(2);
         assertThat(result.getBody().getTotalElements()).isEqualTo(2);
+        assertThat(result.getBody().getSize()).isEqualTo(20);
+
+        verify(caseRepository, times(1)).findSummaries(PageRequest.of(0, 20, Sort.by("id")));
+        verify(caseRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void shouldClampRequestedPageSize() {
+        // Given
+        when(caseRepository.findSummaries(any(Pageable.class)))
+                .thenAnswer(invocation -> new PageImpl<CaseSummary>(List.of(), invocation.getArgument(0), 0));
+
+        // When
+        ResponseEntity<PagedResponse<CaseSummary>> result = caseService.fetchCaseList(-1, 10_000);
+
+        // Then
+        assertThat(result.getBody().getPage()).isZero();
+        assertThat(result.getBody().getSize()).isEqualTo(PagedResponse.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    void shouldReturnNextCursorWhenMoreRowsExist() {
+        // Given
+        CaseSummary case2 = CaseSummary.of(Case.builder().id(2).caseNumber("CASE-002").title("Test Case 2").build());
+        CaseSummary case3 = CaseSummary.of(Case.builder().id(3).caseNumber("CASE-003").title("Test Case 3").build());
+        when(caseRepository.findSummariesByIdGreaterThan(eq(1), any(Pageable.class)))
+                .thenReturn(Arrays.asList(case2, case3));
 
-        verify(caseRepository, times(1)).findAll();
+        // When
+        ResponseEntity<PagedResponse<CaseSummary>> result = caseService.fetchCaseListAfter("1", 1, null);
+
+        // Then
+        assertThat(result.getBody().getContent()).containsExactly(case2);
+        assertThat(result.getBody().getNextCursor()).isEqualTo("2");
+        assertThat(result.getBody().getTotalElements()).isEqualTo(-1);
+
+        verify(caseRepository, never()).count();
+    }
+
+    @Test
+    void shouldOmitNextCursorOnLastPage() {
+        // Given
+        LocalDateTime createdDate = LocalDateTime.of(2025, 1, 15, 10, 30);
+        when(caseRepository.findSummariesAfterCreatedDate(eq(createdDate), eq(1), any(Pageable.class)))
+                .thenReturn(List.of(CaseSummary.of(testCase)));
+
+        // When
+        ResponseEntity<PagedResponse<CaseSummary>> result =
+                caseService.fetchCaseListAfter("2025-01-15T10:30,1", 5, null);
+
+        // Then
+        assertThat(result.getBody().getContent()).hasSize(1);
+        assertThat(result.getBody().getNextCursor()).isNull();
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        // When & Then
+        assertThatThrownBy(() -> caseService.fetchCaseListAfter("not-a-cursor", 10, null))
+                .isInstanceOf(InvalidPageRequestException.class)
+                .hasMessage("Invalid cursor: not-a-cursor");
+
+        verify(caseRepository, never()).findSummariesByIdGreaterThan(anyInt(), any(Pageable.class));
     }
 
     @Test
@@ -169,9 +348,82 @@ public class CaseServiceTest {
         verify(caseRepository, never()).save(any(Case.class));
     }
 
+    @Test
+    void shouldPatchCaseInSingleUpdate() {
+        // Given
+        Case changes = Case.builder().title("Patched Title").caseNumber(" ").build();
+        when(caseJdbcWriter.patch(eq(1), eq(2L), isNull(), eq("Patched Title"), isNull(), isNull(), isNull(),
+                any(LocalDateTime.class))).thenReturn(1);
+        when(caseRepository.findById(1)).thenReturn(Optional.of(testCase));
+
+        // When
+        Case result = caseService.patchCase(changes, "1", 2L);
+
+        // Then
+        assertThat(result).isEqualTo(testCase);
+        verify(caseRepository, never()).save(any(Case.class));
+        verify(eventPublisher, times(1)).publishEvent(CaseChangedEvent.updated(testCase, testCase.getStatus()));
+    }
+
+    @Test
+    void shouldLeavePreviousStatusUnknownWhenPatchChangesStatus() {
+        // Given
+        when(caseJdbcWriter.patch(eq(1), eq(2L), isNull(), isNull(), isNull(), eq(CaseStatus.CLOSED), isNull(),
+                any(LocalDateTime.class))).thenReturn(1);
+        when(caseRepository.findById(1)).thenReturn(Optional.of(testCase));
+
+        // When
+        caseService.patchCase(Case.builder().status(CaseStatus.CLOSED).build(), "1", 2L);
+
+        // Then: nothing is read beforehand, so the counters reconcile the status change
+        verify(caseRepository, never()).save(any(Case.class));
+        verify(eventPublisher, times(1)).publishEvent(CaseChangedEvent.updated(testCase, null));
+    }
+
+    @Test
+    void shouldRejectPatchOfStaleVersion() {
+        // Given
+        when(caseJdbcWriter.patch(eq(1), eq(2L), any(), any(), any(), any(), any(), any())).thenReturn(0);
+        when(caseRepository.existsById(1)).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> caseService.patchCase(Case.builder().title("Patched Title").build(), "1", 2L))
+                .isInstanceOf(CaseVersionConflictException.class);
+        verify(caseRepository, never()).findById(anyInt());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void shouldReportMissingCaseOnPatch() {
+        // Given
+        when(caseJdbcWriter.patch(eq(999), eq(1L), any(), any(), any(), any(), any(), any())).thenReturn(0);
+        when(caseRepository.existsById(999)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> caseService.patchCase(Case.builder().title("Patched Title").build(), "999", 1L))
+                .isInstanceOf(CaseNotFoundException.class)
+                .hasMessageContaining("Case with ID 999 not found");
+    }
+
+    @Test
+    void shouldPatchAnyVersionWithoutExpectedVersion() {
+        // Given
+        when(caseJdbcWriter.patch(eq(1), isNull(), any(), eq("Patched Title"), any(), any(), any(), any()))
+                .thenReturn(1);
+        when(caseRepository.findById(1)).thenReturn(Optional.of(testCase));
+
+        // When
+        Case result = caseService.patchCase(Case.builder().title("Patched Title").build(), "1", null);
+
+        // Then
+        assertThat(result).isEqualTo(testCase);
+        verify(caseRepository, never()).existsById(anyInt());
+    }
+
     @Test
     void shouldDeleteCaseById() {
         // Given
+        when(caseRepository.findById(1)).thenReturn(Optional.of(testCase));
         doNothing().when(caseRepository).deleteById(1);
 
         // When
@@ -179,22 +431,42 @@ public class CaseServiceTest {
 
         // Then
         verify(caseRepository, times(1)).deleteById(1);
+        verify(eventPublisher, times(1)).publishEvent(CaseChangedEvent.deleted(1, CaseStatus.OPEN));
     }
 
     @Test
     void shouldGetCasesByStatus() {
         // Given
-        List<Case> openCases = Arrays.asList(testCase);
-        when(caseRepository.findByStatus(CaseStatus.OPEN)).thenReturn(openCases);
+        CaseSummary summary = new CaseSummary(1, "CASE-001", "Test Case", CaseStatus.OPEN,
+                null, testCase.getCreatedDate(), testCase.getUpdatedDate());
+        when(caseRepository.findByStatus(eq(CaseStatus.OPEN), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(summary), PageRequest.of(0, 20), 1));
 
         // When
-        List<Case> result = caseService.getCasesByStatus(CaseStatus.OPEN);
+        ResponseEntity<PagedResponse<CaseSummary>> result = caseService.getCasesByStatus(CaseStatus.OPEN, 0, 20, null);
 
         // Then
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getStatus()).isEqualTo(CaseStatus.OPEN);
+        assertThat(result.getBody().getContent()).hasSize(1);
+        assertThat(result.getBody().getContent().get(0).status()).isEqualTo(CaseStatus.OPEN);
+        assertThat(result.getBody().getTotalElements()).isEqualTo(1);
 
-        verify(caseRepository, times(1)).findByStatus(CaseStatus.OPEN);
+        verify(caseRepository, times(1)).findByStatus(CaseStatus.OPEN, PageRequest.of(0, 20, Sort.by("id")));
+    }
+
+    @Test
+    void shouldPageCasesByStatusWithCursor() {
+        // Given
+        CaseSummary first = new CaseSummary(11, "CASE-011", "Open Case 11", CaseStatus.OPEN, null, null, null);
+        CaseSummary second = new CaseSummary(12, "CASE-012", "Open Case 12", CaseStatus.OPEN, null, null, null);
+        when(caseRepository.findByStatusAfterId(eq(CaseStatus.OPEN), eq(10), any(Pageable.class)))
+                .thenReturn(List.of(first, second));
+
+        // When
+        ResponseEntity<PagedResponse<CaseSummary>> result = caseService.getCasesByStatus(CaseStatus.OPEN, 0, 1, "10");
+
+        // Then
+        assertThat(result.getBody().getContent()).containsExactly(first);
+        assertThat(result.getBody().getNextCursor()).isEqualTo("11");
     }
 
     @Test
@@ -0,0 +1,165 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.models.CaseStatusCount;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CaseStatusCountersTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CaseRepository caseRepository = mock(CaseRepository.class);
+    private CaseStatusCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        counters = new CaseStatusCounters(registry);
+        ReflectionTestUtils.setField(counters, "myCaseRepository", caseRepository);
+        ReflectionTestUtils.setField(counters, "transactionManager", mock(PlatformTransactionManager.class));
+        when(caseRepository.countGroupedByStatus()).thenReturn(List.of(
+                new CaseStatusCount(CaseStatus.OPEN, 3),
+                new CaseStatusCount(CaseStatus.CLOSED, 1)));
+    }
+
+    @Test
+    void shouldQueryUntilSeededAndListEveryStatus() {
+        assertThat(counters.counts()).containsExactly(
+                new CaseStatusCount(CaseStatus.OPEN, 3),
+                new CaseStatusCount(CaseStatus.IN_PROGRESS, 0),
+                new CaseStatusCount(CaseStatus.CLOSED, 1),
+                new CaseStatusCount(CaseStatus.CANCELLED, 0));
+
+        counters.seed();
+        counters.counts();
+        counters.counts();
+
+        assertThat(counters.isReady()).isTrue();
+        // One query before seeding, one to seed, none after
+        verify(caseRepository, times(2)).countGroupedByStatus();
+    }
+
+    @Test
+    void shouldAdjustCountsFromChangeEvents() {
+        counters.seed();
+
+        counters.onCaseChanged(CaseChangedEvent.created(newCase(10, CaseStatus.OPEN)));
+        counters.onCaseChanged(CaseChangedEvent.updated(newCase(1, CaseStatus.IN_PROGRESS), CaseStatus.OPEN));
+        counters.onCaseChanged(CaseChangedEvent.updated(newCase(2, CaseStatus.OPEN), CaseStatus.OPEN));
+        counters.onCaseChanged(CaseChangedEvent.deleted(3, CaseStatus.CLOSED));
+
+        assertThat(count(CaseStatus.OPEN)).isEqualTo(3);
+        assertThat(count(CaseStatus.IN_PROGRESS)).isEqualTo(1);
+        assertThat(count(CaseStatus.CLOSED)).isZero();
+        assertThat(registry.get("cases.status.count").tag("status", "IN_PROGRESS").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldLeaveUpdatesWithUnknownPreviousStatusToReconciliation() {
+        counters.seed();
+
+        counters.onCaseChanged(CaseChangedEvent.updated(newCase(1, CaseStatus.CLOSED), null));
+
+        assertThat(count(CaseStatus.OPEN)).isEqualTo(3);
+        assertThat(count(CaseStatus.CLOSED)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReconcileSoonAfterAnUpdateWithUnknownPreviousStatus() {
+        counters.seed();
+        // Nothing is reconciled early while the counters are in step
+        counters.reconcileIfStale();
+        when(caseRepository.countGroupedByStatus()).thenReturn(List.of(
+                new CaseStatusCount(CaseStatus.OPEN, 2),
+                new CaseStatusCount(CaseStatus.CLOSED, 2)));
+
+        counters.onCaseChanged(CaseChangedEvent.updated(newCase(1, CaseStatus.CLOSED), null));
+        counters.reconcileIfStale();
+        counters.reconcileIfStale();
+
+        assertThat(count(CaseStatus.OPEN)).isEqualTo(2);
+        assertThat(count(CaseStatus.CLOSED)).isEqualTo(2);
+        // One query to seed, one to reconcile the unknown change
+        verify(caseRepository, times(2)).countGroupedByStatus();
+    }
+
+    @Test
+    void shouldCorrectDriftOnReconcile() {
+        counters.seed();
+        when(caseRepository.countGroupedByStatus()).thenReturn(List.of(
+                new CaseStatusCount(CaseStatus.OPEN, 5),
+                new CaseStatusCount(CaseStatus.CANCELLED, 2)));
+
+        counters.scheduledReconcile();
+
+        assertThat(count(CaseStatus.OPEN)).isEqualTo(5);
+        assertThat(count(CaseStatus.CLOSED)).isZero();
+        assertThat(count(CaseStatus.CANCELLED)).isEqualTo(2);
+        assertThat(registry.get("cases.status.count.corrections").counter().count()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldQueryAgainWhenChangesLandDuringReconcile() {
+        counters.seed();
+        // The create committed before the first query read the table, but its event arrives mid-query
+        List<CaseStatusCount> actual = List.of(new CaseStatusCount(CaseStatus.OPEN, 4),
+                                               new CaseStatusCount(CaseStatus.CLOSED, 1));
+        when(caseRepository.countGroupedByStatus())
+                .thenAnswer(invocation -> {
+                    counters.onCaseChanged(CaseChangedEvent.created(newCase(10, CaseStatus.OPEN)));
+                    return actual;
+                })
+                .thenReturn(actual);
+
+        counters.scheduledReconcile();
+
+        assertThat(count(CaseStatus.OPEN)).isEqualTo(4);
+        assertThat(registry.get("cases.status.count.corrections").counter().count()).isZero();
+        verify(caseRepository, times(3)).countGroupedByStatus();
+    }
+
+    @Test
+    void shouldAddRecordedChangesWhenEveryAttemptSeesSome() {
+        counters.seed();
+        // Each query misses a create whose event arrives while it runs
+        long[] open = {3};
+        when(caseRepository.countGroupedByStatus()).thenAnswer(invocation -> {
+            List<CaseStatusCount> result = List.of(new CaseStatusCount(CaseStatus.OPEN, open[0]),
+                                                   new CaseStatusCount(CaseStatus.CLOSED, 1));
+            open[0]++;
+            counters.onCaseChanged(CaseChangedEvent.created(newCase((int) (10 + open[0]), CaseStatus.OPEN)));
+            return result;
+        });
+
+        counters.scheduledReconcile();
+
+        assertThat(count(CaseStatus.OPEN)).isEqualTo(6);
+        assertThat(registry.get("cases.status.count.corrections").counter().count()).isZero();
+        verify(caseRepository, times(4)).countGroupedByStatus();
+    }
+
+    private long count(CaseStatus status) {
+        return counters.counts().stream()
+                .filter(count -> count.status() == status)
+                .findFirst()
+                .orElseThrow()
+                .count();
+    }
+
+    private static Case newCase(int id, CaseStatus status) {
+        return Case.builder().id(id).caseNumber("COUNT" + id).status(status).build();
+    }
+}
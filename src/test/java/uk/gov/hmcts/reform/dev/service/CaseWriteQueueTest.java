@@ -0,0 +1,191 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import uk.gov.hmcts.reform.dev.exception.CaseQueueFullException;
+import uk.gov.hmcts.reform.dev.models.BulkItemResult;
+import uk.gov.hmcts.reform.dev.models.BulkOutcome;
+import uk.gov.hmcts.reform.dev.models.BulkResponse;
+import uk.gov.hmcts.reform.dev.models.Case;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CaseWriteQueueTest {
+
+    @Mock
+    private CaseBulkService caseBulkService;
+
+    @InjectMocks
+    private CaseWriteQueue caseWriteQueue;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(caseWriteQueue, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(caseWriteQueue, "capacity", 100);
+        ReflectionTestUtils.setField(caseWriteQueue, "maxBatch", 50);
+        ReflectionTestUtils.setField(caseWriteQueue, "maxDelay", Duration.ofMillis(50));
+        ReflectionTestUtils.setField(caseWriteQueue, "timeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(caseWriteQueue, "chunkSize", 50);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (ReflectionTestUtils.getField(caseWriteQueue, "writer") != null) {
+            caseWriteQueue.stop();
+        }
+    }
+
+    @Test
+    void shouldGroupQueuedCasesIntoOneBatch() {
+        // Given: every case in a batch is created, except the duplicate case number
+        when(caseBulkService.createCases(anyList())).thenAnswer(invocation -> {
+            List<Case> cases = invocation.getArgument(0);
+            List<BulkItemResult> results = new ArrayList<>();
+            for (int i = 0; i < cases.size(); i++) {
+                boolean duplicate = "DUP1".equals(cases.get(i).getCaseNumber());
+                cases.get(i).setId(duplicate ? 0 : 100 + i);
+                results.add(BulkItemResult.builder()
+                        .index(i)
+                        .outcome(duplicate ? BulkOutcome.DUPLICATE : BulkOutcome.CREATED)
+                        .build());
+            }
+            return BulkResponse.builder().results(results).build();
+        });
+        caseWriteQueue.start();
+
+        // When
+        List<CompletableFuture<Case>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(caseWriteQueue.submit(Case.builder().caseNumber("QUEUED" + i).build()));
+        }
+        CompletableFuture<Case> duplicate = caseWriteQueue.submit(Case.builder().caseNumber("DUP1").build());
+
+        // Then
+        for (CompletableFuture<Case> future : futures) {
+            assertThat(future.orTimeout(5, TimeUnit.SECONDS).join().getId()).isPositive();
+        }
+        assertThatThrownBy(() -> duplicate.orTimeout(5, TimeUnit.SECONDS).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(DataIntegrityViolationException.class);
+        verify(caseBulkService, atMost(11)).createCases(anyList());
+        assertThat(meterRegistry.get("cases.write.behind.batch.size").summary().totalAmount()).isEqualTo(11.0);
+        assertThat(meterRegistry.get("cases.write.behind.batch.size").summary().max()).isGreaterThan(1.0);
+    }
+
+    @Test
+    void shouldRefuseCasesWhenQueueIsFull() throws InterruptedException {
+        // Given: a writer that never gets to drain, so the queue only fills
+        ReflectionTestUtils.setField(caseWriteQueue, "capacity", 2);
+        ReflectionTestUtils.setField(caseWriteQueue, "maxDelay", Duration.ofHours(1));
+        ReflectionTestUtils.setField(caseWriteQueue, "maxBatch", 1000);
+        caseWriteQueue.start();
+
+        // When
+        caseWriteQueue.submit(Case.builder().caseNumber("FULL1").build());
+        caseWriteQueue.submit(Case.builder().caseNumber("FULL2").build());
+
+        // Then
+        assertThatThrownBy(() -> caseWriteQueue.submit(Case.builder().caseNumber("FULL3").build()))
+                .isInstanceOf(CaseQueueFullException.class);
+        assertThat(meterRegistry.get("cases.write.behind.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldCompleteEachChunkOnItsOwn() throws InterruptedException {
+        // Given: the first chunk of a batch dies with an Error, the second is created
+        ReflectionTestUtils.setField(caseWriteQueue, "chunkSize", 2);
+        ReflectionTestUtils.setField(caseWriteQueue, "maxDelay", Duration.ofSeconds(1));
+        CountDownLatch queued = new CountDownLatch(1);
+        when(caseBulkService.createCases(anyList()))
+                .thenAnswer(invocation -> {
+                    queued.await();
+                    throw new StackOverflowError();
+                })
+                .thenAnswer(invocation -> created(invocation.getArgument(0)))
+                .thenAnswer(invocation -> created(invocation.getArgument(0)));
+        caseWriteQueue.start();
+
+        // When
+        List<CompletableFuture<Case>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(caseWriteQueue.submit(Case.builder().caseNumber("CHUNK" + i).build()));
+        }
+        queued.countDown();
+
+        // Then: the writer survives the Error and the second chunk still commits
+        assertThatThrownBy(() -> futures.get(0).join()).hasCauseInstanceOf(StackOverflowError.class);
+        assertThatThrownBy(() -> futures.get(1).join()).hasCauseInstanceOf(StackOverflowError.class);
+        assertThat(futures.get(2).join().getCaseNumber()).isEqualTo("CHUNK2");
+        assertThat(futures.get(3).join().getCaseNumber()).isEqualTo("CHUNK3");
+        assertThat(caseWriteQueue.submit(Case.builder().caseNumber("AFTER").build()).join().getCaseNumber())
+                .isEqualTo("AFTER");
+        verify(caseBulkService, times(3)).createCases(anyList());
+    }
+
+    @Test
+    void shouldTimeOutCasesNotWrittenInTime() {
+        // Given: a writer that holds the case for longer than the timeout
+        ReflectionTestUtils.setField(caseWriteQueue, "maxDelay", Duration.ofHours(1));
+        ReflectionTestUtils.setField(caseWriteQueue, "maxBatch", 1000);
+        ReflectionTestUtils.setField(caseWriteQueue, "timeout", Duration.ofMillis(50));
+        caseWriteQueue.start();
+
+        // When & Then
+        CompletableFuture<Case> future = caseWriteQueue.submit(Case.builder().caseNumber("SLOW1").build());
+        assertThatThrownBy(future::join).hasCauseInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    void shouldWriteQueuedCasesAndRefuseNewOnesWhenStopped() throws InterruptedException {
+        // Given
+        when(caseBulkService.createCases(anyList())).thenAnswer(invocation -> created(invocation.getArgument(0)));
+        ReflectionTestUtils.setField(caseWriteQueue, "maxDelay", Duration.ofHours(1));
+        ReflectionTestUtils.setField(caseWriteQueue, "maxBatch", 1000);
+        caseWriteQueue.start();
+        CompletableFuture<Case> queued = caseWriteQueue.submit(Case.builder().caseNumber("STOP1").build());
+
+        // When
+        caseWriteQueue.stop();
+
+        // Then
+        assertThat(queued.getNow(null)).isNotNull();
+        assertThatThrownBy(() -> caseWriteQueue.submit(Case.builder().caseNumber("STOP2").build()))
+                .isInstanceOf(CaseQueueFullException.class);
+    }
+
+    private static BulkResponse created(List<Case> cases) {
+        List<BulkItemResult> results = new ArrayList<>();
+        for (int i = 0; i < cases.size(); i++) {
+            results.add(BulkItemResult.builder().index(i).outcome(BulkOutcome.CREATED).build());
+        }
+        return BulkResponse.builder().results(results).build();
+    }
+}